@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# Time from JVM launch to the first successful POST /api/schedule, for the default and the fast-start build.
+# Build both first:
+#   mvn -DskipTests package                        -> target/smart-meeting-scheduler-*.jar
+#   mvn -Pfast-start -DskipTests package           -> target/fast-start/ (AOT + CDS archive)
+# Usage: scripts/startup-benchmark.sh [runs] [port]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${2:-18080}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+JAR=$(ls "$ROOT"/target/smart-meeting-scheduler-*.jar | grep -v original | head -n 1)
+FAST_DIR="$ROOT/target/fast-start"
+FAST_JAR="$FAST_DIR/$(basename "$JAR")"
+
+# Seeding stays on so both modes have the demo users the request needs
+BODY='{"participantIds":["user1","user2"],"durationMinutes":30,
+       "timeRange":{"start":"2024-09-02T09:00:00Z","end":"2024-09-02T17:00:00Z"}}'
+
+measure() {
+    local label=$1
+    shift
+    local total=0
+    for run in $(seq 1 "$RUNS"); do
+        local start
+        start=$(date +%s%N)
+        "$@" --server.port="$PORT" --scheduler.seed.enabled=true > /dev/null 2>&1 &
+        local pid=$!
+        until [ "$(curl -s -o /dev/null -w '%{http_code}' -X POST -H 'Content-Type: application/json' \
+                    -d "$BODY" "http://localhost:$PORT/api/schedule")" = "201" ]; do
+            if ! kill -0 "$pid" 2> /dev/null; then
+                echo "$label: application exited before serving /api/schedule" >&2
+                exit 1
+            fi
+            sleep 0.02
+        done
+        local elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+        kill "$pid"
+        wait "$pid" 2> /dev/null || true
+        echo "$label run $run: ${elapsed} ms"
+        total=$((total + elapsed))
+    done
+    echo "$label mean: $((total / RUNS)) ms"
+}
+
+measure default java -jar "$JAR"
+if [ -f "$FAST_DIR/application.jsa" ]; then
+    (cd "$FAST_DIR" && measure fast-start java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+        -jar "$FAST_JAR" --spring.profiles.active=fast)
+else
+    echo "No CDS archive in $FAST_DIR; build it with mvn -Pfast-start -DskipTests package" >&2
+fi
@@ -0,0 +1,125 @@
+// src/jmh/java/com/example/smartmeetingscheduler/benchmarks/CalendarBenchmark.java
+package com.example.smartmeetingscheduler.benchmarks;
+
+import com.example.smartmeetingscheduler.SmartMeetingSchedulerApplication;
+import com.example.smartmeetingscheduler.dto.EventDto;
+import com.example.smartmeetingscheduler.entities.Event;
+import com.example.smartmeetingscheduler.entities.User;
+import com.example.smartmeetingscheduler.repositories.EventRepository;
+import com.example.smartmeetingscheduler.repositories.UserRepository;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.services.BusyIntervalLoader;
+import com.example.smartmeetingscheduler.services.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calendar retrieval and busy-interval loading against an in-memory H2 database filled with synthetic
+ * calendars. The application context starts without the web layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CalendarBenchmark {
+
+    @Param({"20"})
+    public int users;
+
+    @Param({"20", "200"})
+    public int eventsPerWeek;
+
+    @Param({"30"})
+    public int rangeDays;
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private BusyIntervalLoader busyIntervalLoader;
+    private List<String> userIds;
+    private String start;
+    private String end;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 16);
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SmartMeetingSchedulerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark",
+                        "scheduler.query-plan-check.enabled=false",
+                        "scheduler.seed.enabled=false",
+                        "scheduler.cache.enabled=" + cacheEnabled,
+                        "logging.level.root=WARN")
+                .run();
+        eventService = context.getBean(EventService.class);
+        busyIntervalLoader = context.getBean(BusyIntervalLoader.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+        Random random = new Random(42);
+        userIds = new ArrayList<>();
+        int eventsPerUser = SyntheticCalendars.events(eventsPerWeek, rangeDays);
+        for (int u = 0; u < users; u++) {
+            User user = userRepository.save(new User("bench-" + u, "Benchmark User " + u));
+            userIds.add(user.getId());
+            long[][] intervals = SyntheticCalendars.intervals(random, eventsPerUser, rangeDays);
+            List<Event> events = new ArrayList<>(eventsPerUser);
+            for (int i = 0; i < eventsPerUser; i++) {
+                events.add(new Event("Synthetic " + i, Instant.ofEpochMilli(intervals[0][i]),
+                        Instant.ofEpochMilli(intervals[1][i]), user));
+            }
+            eventRepository.saveAll(events);
+        }
+        start = SyntheticCalendars.RANGE_START.toString();
+        end = SyntheticCalendars.rangeEnd(rangeDays).toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EventDto> userCalendar() {
+        return eventService.getUserCalendar(userIds.get(0), start, end).join();
+    }
+
+    @Benchmark
+    public int streamUserCalendar() throws IOException {
+        buffer.reset();
+        eventService.streamUserCalendar(userIds.get(0), start, end, null, null).writeTo(buffer);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public Map<String, IntervalIndex> loadBusyIntervals() {
+        return busyIntervalLoader.load(userIds, SyntheticCalendars.RANGE_START, SyntheticCalendars.rangeEnd(rangeDays));
+    }
+}
@@ -0,0 +1,92 @@
+// src/jmh/java/com/example/smartmeetingscheduler/benchmarks/ScoringBenchmark.java
+package com.example.smartmeetingscheduler.benchmarks;
+
+import com.example.smartmeetingscheduler.scheduling.CandidateScorer;
+import com.example.smartmeetingscheduler.scheduling.FreeSlotFinder;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.ParallelCandidateSearch;
+import com.example.smartmeetingscheduler.scheduling.ScoringRules;
+import com.example.smartmeetingscheduler.scheduling.WorkingHoursMask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring of a fixed candidate set, serial against the fork-join path, to pick
+ * {@code scheduler.parallel.threshold} for a given machine. The {@code custom} policy checks that a
+ * configured rule set with more gap bands scores as fast as the default one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+
+    @Param({"3", "20", "100"})
+    public int participants;
+
+    @Param({"20"})
+    public int eventsPerWeek;
+
+    @Param({"30", "365"})
+    public int rangeDays;
+
+    @Param({"default", "custom"})
+    public String policy;
+
+    private CandidateScorer scorer;
+    private long[] candidates;
+    private int[] scores;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        IntervalIndex[] indexes = SyntheticCalendars.indexes(7, participants, eventsPerWeek, rangeDays);
+        long rangeStart = SyntheticCalendars.RANGE_START.toEpochMilli();
+        long rangeEnd = SyntheticCalendars.rangeEnd(rangeDays).toEpochMilli();
+        long durationMs = Duration.ofMinutes(30).toMillis();
+        long stepMs = Duration.ofMinutes(15).toMillis();
+        candidates = FreeSlotFinder.candidateStarts(Arrays.asList(indexes), rangeStart, rangeEnd, durationMs, stepMs);
+        WorkingHoursMask workingHours = WorkingHoursMask.build(SyntheticCalendars.defaultProfiles(participants),
+                rangeStart, rangeEnd, durationMs, stepMs);
+        ScoringRules rules = policy.equals("custom")
+                ? ScoringRules.parse("custom", "earliness=3,working-hours=800,gap:0=250,gap:1-14=-200,gap:15-29=-20,"
+                        + "gap:30-59=40,gap:60-119=90,gap:120+=60,gap:15+=25")
+                : ScoringRules.DEFAULT;
+        scorer = new CandidateScorer(indexes, rangeStart, durationMs, workingHours, rules);
+        scores = new int[candidates.length];
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int serial() {
+        scorer.scoreAll(candidates, 0, candidates.length, scores);
+        return CandidateScorer.bestIndex(scores, 0, candidates.length);
+    }
+
+    @Benchmark
+    public int parallel() {
+        return ParallelCandidateSearch.bestIndex(pool, scorer, candidates, scores);
+    }
+}
@@ -0,0 +1,94 @@
+// src/jmh/java/com/example/smartmeetingscheduler/benchmarks/SlotSearchBenchmark.java
+package com.example.smartmeetingscheduler.benchmarks;
+
+import com.example.smartmeetingscheduler.scheduling.AvailabilityBitmap;
+import com.example.smartmeetingscheduler.scheduling.CandidateScorer;
+import com.example.smartmeetingscheduler.scheduling.FreeSlotFinder;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.WorkingHoursMask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Free-gap sweep, candidate generation (sweep and grid bitmap) and the full search that
+ * {@code scheduleMeeting} runs in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotSearchBenchmark {
+
+    @Param({"3", "20", "100"})
+    public int participants;
+
+    @Param({"5", "20", "40"})
+    public int eventsPerWeek;
+
+    @Param({"7", "90"})
+    public int rangeDays;
+
+    @Param({"60"})
+    public int durationMinutes;
+
+    private List<IntervalIndex> indexList;
+    private IntervalIndex[] indexes;
+    private WorkingHoursMask.Profile[] profiles;
+    private long rangeStart;
+    private long rangeEnd;
+    private long durationMs;
+    private long stepMs;
+
+    @Setup
+    public void setUp() {
+        indexes = SyntheticCalendars.indexes(42, participants, eventsPerWeek, rangeDays);
+        indexList = Arrays.asList(indexes);
+        profiles = SyntheticCalendars.defaultProfiles(participants);
+        rangeStart = SyntheticCalendars.RANGE_START.toEpochMilli();
+        rangeEnd = SyntheticCalendars.rangeEnd(rangeDays).toEpochMilli();
+        durationMs = Duration.ofMinutes(durationMinutes).toMillis();
+        stepMs = Duration.ofMinutes(15).toMillis();
+    }
+
+    @Benchmark
+    public long[] freeGaps() {
+        return FreeSlotFinder.freeGaps(indexList, rangeStart, rangeEnd);
+    }
+
+    @Benchmark
+    public long[] candidateStarts() {
+        return FreeSlotFinder.candidateStarts(indexList, rangeStart, rangeEnd, durationMs, stepMs);
+    }
+
+    @Benchmark
+    public long[] bitmapCandidateStarts() {
+        return AvailabilityBitmap.candidateStarts(indexes, rangeStart, rangeEnd, durationMs, stepMs);
+    }
+
+    @Benchmark
+    public long findBestSlot() {
+        long[] candidates = AvailabilityBitmap.candidateStarts(indexes, rangeStart, rangeEnd, durationMs, stepMs);
+        WorkingHoursMask workingHours = WorkingHoursMask.build(profiles, rangeStart, rangeEnd, durationMs, stepMs);
+        CandidateScorer scorer = new CandidateScorer(indexes, rangeStart, durationMs, workingHours);
+        int[] scores = new int[candidates.length];
+        scorer.scoreAll(candidates, 0, candidates.length, scores);
+        int best = CandidateScorer.bestIndex(scores, 0, candidates.length);
+        return best < 0 ? IntervalIndex.NONE : candidates[best];
+    }
+}
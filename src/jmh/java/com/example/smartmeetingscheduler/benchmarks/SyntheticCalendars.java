@@ -0,0 +1,65 @@
+// src/jmh/java/com/example/smartmeetingscheduler/benchmarks/SyntheticCalendars.java
+package com.example.smartmeetingscheduler.benchmarks;
+
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.WorkingHoursMask;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Reproducible calendars for the benchmarks: quarter-hour aligned meetings of 15 to 90 minutes starting
+ * between 08:00 and 18:00 UTC on random days of the range. The same seed always yields the same calendars.
+ */
+final class SyntheticCalendars {
+
+    static final Instant RANGE_START = Instant.parse("2024-09-02T00:00:00Z");
+    private static final long QUARTER = Duration.ofMinutes(15).toMillis();
+    private static final long DAY = Duration.ofDays(1).toMillis();
+    private static final long WORKDAY_OPEN = Duration.ofHours(8).toMillis();
+    private static final int WORKDAY_QUARTERS = 40;
+
+    private SyntheticCalendars() {
+    }
+
+    static Instant rangeEnd(int rangeDays) {
+        return RANGE_START.plus(Duration.ofDays(rangeDays));
+    }
+
+    static int events(int eventsPerWeek, int rangeDays) {
+        return Math.max(1, eventsPerWeek * rangeDays / 7);
+    }
+
+    /** {@code [starts, ends]} for one user, sorted by start. */
+    static long[][] intervals(Random random, int events, int rangeDays) {
+        long[] starts = new long[events];
+        for (int i = 0; i < events; i++) {
+            starts[i] = RANGE_START.toEpochMilli() + random.nextInt(rangeDays) * DAY
+                    + WORKDAY_OPEN + random.nextInt(WORKDAY_QUARTERS) * QUARTER;
+        }
+        Arrays.sort(starts);
+        long[] ends = new long[events];
+        for (int i = 0; i < events; i++) {
+            ends[i] = starts[i] + (1 + random.nextInt(6)) * QUARTER;
+        }
+        return new long[][]{starts, ends};
+    }
+
+    static WorkingHoursMask.Profile[] defaultProfiles(int participants) {
+        WorkingHoursMask.Profile[] profiles = new WorkingHoursMask.Profile[participants];
+        Arrays.fill(profiles, WorkingHoursMask.Profile.DEFAULT);
+        return profiles;
+    }
+
+    static IntervalIndex[] indexes(long seed, int participants, int eventsPerWeek, int rangeDays) {
+        Random random = new Random(seed);
+        IntervalIndex[] indexes = new IntervalIndex[participants];
+        for (int p = 0; p < participants; p++) {
+            long[][] intervals = intervals(random, events(eventsPerWeek, rangeDays), rangeDays);
+            indexes[p] = IntervalIndex.of(intervals[0], intervals[1], IntervalIndex.NONE, IntervalIndex.NONE);
+        }
+        return indexes;
+    }
+}
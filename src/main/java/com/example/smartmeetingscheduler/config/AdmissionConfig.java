@@ -0,0 +1,50 @@
+// src/main/java/com/example/smartmeetingscheduler/config/AdmissionConfig.java
+package com.example.smartmeetingscheduler.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Sheds scheduling load at the door instead of letting the executor queue grow without bound
+@Configuration
+@ConditionalOnProperty(name = "scheduler.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfig {
+
+    @Bean
+    public AdmissionLimiter admissionLimiter(@Value("${scheduler.admission.initial-limit:20}") int initialLimit,
+                                             @Value("${scheduler.admission.min-limit:4}") int minLimit,
+                                             @Value("${scheduler.admission.max-limit:200}") int maxLimit,
+                                             @Value("${scheduler.admission.target-latency-ms:250}") long targetLatencyMs,
+                                             @Value("${scheduler.admission.fairness-window-ms:1000}") long fairnessWindowMs) {
+        return new AdmissionLimiter(initialLimit, minLimit, maxLimit,
+                Duration.ofMillis(targetLatencyMs).toNanos(), Duration.ofMillis(fairnessWindowMs).toNanos());
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(AdmissionLimiter limiter) {
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(new AdmissionControlFilter(limiter));
+        registration.addUrlPatterns("/api/schedule", "/api/schedule/*");
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder admissionMetrics(AdmissionLimiter limiter) {
+        return registry -> {
+            Gauge.builder("scheduler.admission.limit", limiter, l -> l.stats().limit())
+                    .register(registry);
+            Gauge.builder("scheduler.admission.inflight", limiter, l -> l.stats().inFlight())
+                    .register(registry);
+            FunctionCounter.builder("scheduler.admission.rejected", limiter, l -> l.stats().rejectedOverLimit())
+                    .tag("reason", "limit").register(registry);
+            FunctionCounter.builder("scheduler.admission.rejected", limiter, l -> l.stats().rejectedOverClientShare())
+                    .tag("reason", "client").register(registry);
+        };
+    }
+}
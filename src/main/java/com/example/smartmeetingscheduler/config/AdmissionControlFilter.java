@@ -0,0 +1,95 @@
+// src/main/java/com/example/smartmeetingscheduler/config/AdmissionControlFilter.java
+package com.example.smartmeetingscheduler.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits scheduling requests through {@link AdmissionLimiter} before they reach the executor queue.
+ * Rejections are immediate: 429 when the caller is over its share, 503 when the whole limit is in use,
+ * both with Retry-After. Shares go to the authenticated principal, else the remote address; the unverified
+ * X-Client-Id header only splits that share between a caller's clients. Controllers return
+ * CompletableFuture, so a permit is held until the async request completes, not just until the servlet
+ * thread is released.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    private final AdmissionLimiter limiter;
+
+    public AdmissionControlFilter(AdmissionLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String caller = request.getUserPrincipal() != null ? "principal:" + request.getUserPrincipal().getName()
+                : "address:" + request.getRemoteAddr();
+        String clientId = request.getHeader(CLIENT_HEADER);
+        long started = System.nanoTime();
+        AdmissionLimiter.Decision decision = limiter.tryAcquire(caller, clientId, started);
+        if (decision != AdmissionLimiter.Decision.ADMITTED) {
+            reject(response, decision);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                long now = System.nanoTime();
+                limiter.release(caller, clientId, now - started, now);
+            }
+        };
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        release.run();
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        release.run();
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        release.run();
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response, AdmissionLimiter.Decision decision) throws IOException {
+        boolean overShare = decision == AdmissionLimiter.Decision.OVER_CLIENT_SHARE;
+        response.setStatus(overShare ? HttpStatus.TOO_MANY_REQUESTS.value() : HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limiter.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(overShare
+                ? "{\"error\":\"Too many concurrent scheduling requests from this client\"}"
+                : "{\"error\":\"Scheduler is at capacity, please retry\"}");
+    }
+}
@@ -0,0 +1,125 @@
+// src/main/java/com/example/smartmeetingscheduler/config/AdmissionLimiter.java
+package com.example.smartmeetingscheduler.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Concurrency limit for scheduling requests that follows observed latency (AIMD). A request finishing
+ * under the target latency while the limit is in use adds 1/limit, about one per round of requests. A slower
+ * one cuts the limit by the backoff factor, at most once per target latency. Within the limit each caller
+ * (an authenticated principal or a remote address) gets a fair share of it: the limit divided by the callers
+ * seen in the last fairness window. A caller's self-declared client ids only split its own share the same
+ * way, so rotating ids never buys more than one caller's share.
+ */
+public class AdmissionLimiter {
+
+    public enum Decision { ADMITTED, OVER_LIMIT, OVER_CLIENT_SHARE }
+
+    public record Stats(int limit, int inFlight, long rejectedOverLimit, long rejectedOverClientShare) {
+    }
+
+    // One self-declared client id of a caller; null when the caller sent none
+    private record Client(String caller, String id) {
+    }
+
+    /** Floor of {@link #retryAfterSeconds()}, and the Retry-After used when admission control is off. */
+    public static final long MIN_RETRY_AFTER_SECONDS = 1;
+
+    private static final double BACKOFF = 0.9;
+    private static final double LATENCY_SMOOTHING = 0.1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final long fairnessWindowNanos;
+
+    private double limit;
+    private int inFlight;
+    private final Map<String, Integer> inFlightByCaller = new HashMap<>();
+    private final Map<String, Long> lastSeenByCaller = new HashMap<>();
+    private final Map<Client, Integer> inFlightByClient = new HashMap<>();
+    private final Map<String, Map<String, Long>> lastSeenByClient = new HashMap<>();
+    private long lastPrune;
+    private long lastDecrease;
+    private double averageLatencyNanos;
+    private long rejectedOverLimit;
+    private long rejectedOverClientShare;
+
+    public AdmissionLimiter(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos, long fairnessWindowNanos) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.fairnessWindowNanos = fairnessWindowNanos;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * {@code caller} is who the request provably comes from; {@code clientId} is an optional, unverified
+     * id that only divides that caller's share.
+     */
+    public synchronized Decision tryAcquire(String caller, String clientId, long now) {
+        // Forget callers and ids idle for a whole window, so the shares grow back when they leave. One still
+        // holding permits is not idle: a long request keeps its caller counted until it is released
+        if (now - lastPrune > fairnessWindowNanos) {
+            lastSeenByCaller.entrySet().removeIf(seen -> now - seen.getValue() > fairnessWindowNanos
+                    && !inFlightByCaller.containsKey(seen.getKey()));
+            lastSeenByClient.keySet().retainAll(lastSeenByCaller.keySet());
+            lastSeenByClient.forEach((c, ids) -> ids.entrySet().removeIf(seen -> now - seen.getValue() > fairnessWindowNanos
+                    && !inFlightByClient.containsKey(new Client(c, seen.getKey()))));
+            lastPrune = now;
+        }
+        lastSeenByCaller.put(caller, now);
+        Map<String, Long> ids = lastSeenByClient.computeIfAbsent(caller, c -> new HashMap<>());
+        ids.put(clientId, now);
+
+        Client client = new Client(caller, clientId);
+        int callerHeld = inFlightByCaller.getOrDefault(caller, 0);
+        int clientHeld = inFlightByClient.getOrDefault(client, 0);
+        int callerShare = Math.max(1, (int) Math.ceil(limit / lastSeenByCaller.size()));
+        int clientShare = Math.max(1, (int) Math.ceil((double) callerShare / ids.size()));
+        if (callerHeld >= callerShare || clientHeld >= clientShare) {
+            rejectedOverClientShare++;
+            return Decision.OVER_CLIENT_SHARE;
+        }
+        if (inFlight >= (int) limit) {
+            rejectedOverLimit++;
+            return Decision.OVER_LIMIT;
+        }
+        inFlight++;
+        inFlightByCaller.put(caller, callerHeld + 1);
+        inFlightByClient.put(client, clientHeld + 1);
+        return Decision.ADMITTED;
+    }
+
+    /** Returns an admitted request's permit; {@code latencyNanos} is how long it held it. */
+    public synchronized void release(String caller, String clientId, long latencyNanos, long now) {
+        boolean limitInUse = inFlight >= limit / 2;
+        inFlight--;
+        inFlightByCaller.computeIfPresent(caller, (c, held) -> held > 1 ? held - 1 : null);
+        inFlightByClient.computeIfPresent(new Client(caller, clientId), (c, held) -> held > 1 ? held - 1 : null);
+
+        averageLatencyNanos = averageLatencyNanos == 0 ? latencyNanos
+                : averageLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - averageLatencyNanos);
+        if (latencyNanos > targetLatencyNanos) {
+            if (now - lastDecrease > targetLatencyNanos) {
+                limit = Math.max(minLimit, limit * BACKOFF);
+                lastDecrease = now;
+            }
+        } else if (limitInUse) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    /** Whole seconds a rejected client should wait: about one average request, at least 1. */
+    public synchronized long retryAfterSeconds() {
+        return Math.max(MIN_RETRY_AFTER_SECONDS, (long) Math.ceil(averageLatencyNanos / 1e9));
+    }
+
+    public synchronized Stats stats() {
+        return new Stats((int) limit, inFlight, rejectedOverLimit, rejectedOverClientShare);
+    }
+}
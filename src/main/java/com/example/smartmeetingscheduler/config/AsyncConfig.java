@@ -1,25 +1,81 @@
 // src/main/java/com/example/smartmeetingscheduler/config/AsyncConfig.java
 package com.example.smartmeetingscheduler.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean; // Added import
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import javax.sql.DataSource;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    @ConditionalOnProperty(name = "scheduler.executor.mode", havingValue = "pool", matchIfMissing = true)
+    public Executor taskExecutor(MeterRegistry meterRegistry) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(500);
         executor.setThreadNamePrefix("SchedulerThread-");
+        Counter rejections = Counter.builder("scheduler.executor.rejected")
+                .description("Tasks rejected because the queue was full")
+                .register(meterRegistry);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejections.increment();
+            throw new RejectedExecutionException("Task " + task + " rejected from " + pool);
+        });
         executor.initialize();
+        Gauge.builder("scheduler.executor.queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Tasks waiting for a scheduler thread")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
         return executor;
     }
-}
\ No newline at end of file
+
+    // One virtual thread per @Async call; blocking JDBC work is bounded by the JDBC limiter below instead of a queue
+    @Bean(name = "taskExecutor")
+    @ConditionalOnProperty(name = "scheduler.executor.mode", havingValue = "virtual")
+    public Executor virtualTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("SchedulerVThread-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "scheduler.executor.mode", havingValue = "virtual")
+    public static BeanPostProcessor jdbcConcurrencyLimiterPostProcessor(Environment environment) {
+        int permits = environment.getProperty("scheduler.executor.jdbc-permits", Integer.class, 10);
+        long timeoutMillis = environment.getProperty("scheduler.executor.jdbc-permit-timeout-ms", Long.class, 30000L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof DataSource dataSource && !(bean instanceof JdbcConcurrencyLimiter)) {
+                    return new JdbcConcurrencyLimiter(dataSource, permits, timeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Fork-join pool for scoring large candidate sets; 0 means one worker per core
+    @Bean(name = "scoringPool", destroyMethod = "shutdown")
+    public ForkJoinPool scoringPool(@Value("${scheduler.parallel.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,26 @@
+// src/main/java/com/example/smartmeetingscheduler/config/CacheConfig.java
+package com.example.smartmeetingscheduler.config;
+
+import com.example.smartmeetingscheduler.scheduling.FreeBusyCache;
+import com.example.smartmeetingscheduler.scheduling.GapTermCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public FreeBusyCache freeBusyCache(@Value("${scheduler.cache.max-buckets:50000}") int maxBuckets,
+                                       @Value("${scheduler.cache.bucket-hours:24}") int bucketHours) {
+        return new FreeBusyCache(maxBuckets, Duration.ofHours(bucketHours).toMillis());
+    }
+
+    // Per-participant gap terms shared by booking and rescheduling searches
+    @Bean
+    public GapTermCache gapTermCache(@Value("${scheduler.reschedule.max-cached-terms:2000000}") long maxTerms) {
+        return new GapTermCache(maxTerms);
+    }
+}
@@ -0,0 +1,71 @@
+// src/main/java/com/example/smartmeetingscheduler/config/DemoDataSeeder.java
+package com.example.smartmeetingscheduler.config;
+
+import com.example.smartmeetingscheduler.entities.Event;
+import com.example.smartmeetingscheduler.entities.User;
+import com.example.smartmeetingscheduler.repositories.EventRepository;
+import com.example.smartmeetingscheduler.repositories.UserRepository;
+import com.example.smartmeetingscheduler.services.PartitionRouter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Demo users and events, inserted once the application is ready instead of during startup, with two
+ * batched saves in one transaction (per partition, with partitioned storage). The flag is read at runtime
+ * (not through a condition) so AOT-processed builds honour it too.
+ */
+@Component
+public class DemoDataSeeder {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartitionRouter partitionRouter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${scheduler.seed.enabled:true}")
+    private boolean seedEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (!seedEnabled || partitionRouter.everywhere(partition -> userRepository.count()).stream()
+                .anyMatch(count -> count > 0)) {
+            return;
+        }
+        User alice = new User("user1", "Alice");
+        User bob = new User("user2", "Bob");
+        User charlie = new User("user3", "Charlie");
+        List<User> users = List.of(alice, bob, charlie);
+        List<Event> events = List.of(
+                new Event("Team Sync", Instant.parse("2024-09-01T09:00:00Z"), Instant.parse("2024-09-01T10:00:00Z"), alice),
+                new Event("Lunch Break", Instant.parse("2024-09-01T12:00:00Z"), Instant.parse("2024-09-01T13:00:00Z"), alice),
+                new Event("Project Review", Instant.parse("2024-09-02T14:00:00Z"), Instant.parse("2024-09-02T15:00:00Z"), bob),
+                new Event("Client Call", Instant.parse("2024-09-03T10:00:00Z"), Instant.parse("2024-09-03T11:00:00Z"), charlie),
+                new Event("Daily Standup", Instant.parse("2024-09-04T09:30:00Z"), Instant.parse("2024-09-04T10:00:00Z"), alice));
+
+        Map<Integer, List<User>> usersByPartition = users.stream()
+                .collect(Collectors.groupingBy(user -> partitionRouter.partitionOf(user.getId())));
+        Map<Integer, List<Event>> eventsByPartition = events.stream()
+                .collect(Collectors.groupingBy(event -> partitionRouter.partitionOf(event.getUser().getId())));
+        // Users and events commit together: users left without their events would stop the next start from seeding
+        usersByPartition.forEach((partition, local) -> partitionRouter.on(partition, () -> transactionTemplate.execute(status -> {
+            userRepository.saveAll(local);
+            return eventRepository.saveAll(eventsByPartition.getOrDefault(partition, List.of()));
+        })));
+    }
+}
@@ -0,0 +1,47 @@
+// src/main/java/com/example/smartmeetingscheduler/config/MetricsConfig.java
+package com.example.smartmeetingscheduler.config;
+
+import com.example.smartmeetingscheduler.scheduling.FreeBusyCache;
+import com.example.smartmeetingscheduler.scheduling.GapTermCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+
+    @Bean
+    public MeterBinder freeBusyCacheMetrics(FreeBusyCache cache) {
+        return registry -> {
+            FunctionCounter.builder("scheduler.cache.requests", cache, c -> c.stats().hits())
+                    .tag("result", "hit").register(registry);
+            FunctionCounter.builder("scheduler.cache.requests", cache, c -> c.stats().misses())
+                    .tag("result", "miss").register(registry);
+            FunctionCounter.builder("scheduler.cache.evictions", cache, c -> c.stats().evictions())
+                    .register(registry);
+            FunctionCounter.builder("scheduler.cache.invalidations", cache, c -> c.stats().invalidations())
+                    .register(registry);
+            Gauge.builder("scheduler.cache.buckets", cache, c -> c.stats().size())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder gapTermCacheMetrics(GapTermCache cache) {
+        return registry -> {
+            FunctionCounter.builder("scheduler.reschedule.terms", cache, c -> c.stats().hits())
+                    .tag("result", "hit").register(registry);
+            FunctionCounter.builder("scheduler.reschedule.terms", cache, c -> c.stats().misses())
+                    .tag("result", "miss").register(registry);
+        };
+    }
+}
@@ -0,0 +1,63 @@
+// src/main/java/com/example/smartmeetingscheduler/config/PartitionConfig.java
+package com.example.smartmeetingscheduler.config;
+
+import com.example.smartmeetingscheduler.services.PartitionRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One database per partition behind a routing data source (see application-partitioned.properties).
+ * Each partition is migrated with Flyway on its own; a fresh one also moves its id generators into
+ * a range of its own, so event and series ids stay unique across partitions.
+ */
+@Slf4j
+@Configuration
+@Profile("partitioned")
+public class PartitionConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Value("${scheduler.partitions.count}") int count,
+                                 @Value("${scheduler.partitions.url-template}") String urlTemplate,
+                                 @Value("${spring.datasource.username:sa}") String username,
+                                 @Value("${spring.datasource.password:}") String password) {
+        Map<Object, Object> partitions = new HashMap<>();
+        for (int partition = 0; partition < count; partition++) {
+            DataSource dataSource = DataSourceBuilder.create()
+                    .url(String.format(urlTemplate, partition))
+                    .username(username)
+                    .password(password)
+                    .build();
+            migrate(dataSource, partition);
+            partitions.put(partition, dataSource);
+        }
+        PartitionRoutingDataSource routing = new PartitionRoutingDataSource();
+        routing.setTargetDataSources(partitions);
+        routing.setDefaultTargetDataSource(partitions.get(0));
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    private static void migrate(DataSource dataSource, int partition) {
+        MigrateResult result = Flyway.configure().dataSource(dataSource).load().migrate();
+        if (result.initialSchemaVersion == null) {
+            long firstId = PartitionRouter.firstId(partition);
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("ALTER SEQUENCE event_seq RESTART WITH " + firstId);
+            jdbc.execute("ALTER TABLE recurring_event ALTER COLUMN id RESTART WITH " + firstId);
+        }
+        log.info("Partition {} at schema version {}", partition, result.targetSchemaVersion);
+    }
+}
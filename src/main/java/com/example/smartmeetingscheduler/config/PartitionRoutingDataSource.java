@@ -0,0 +1,32 @@
+// src/main/java/com/example/smartmeetingscheduler/config/PartitionRoutingDataSource.java
+package com.example.smartmeetingscheduler.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Hands out connections of the partition selected on the current thread. The selection must be made
+ * before a transaction starts: a transaction keeps the connection it began with. Without a selection
+ * (startup, schema checks) the default partition 0 is used.
+ */
+public class PartitionRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /** Selects {@code partition} for this thread, or clears the selection when null. */
+    public static void select(Integer partition) {
+        if (partition == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(partition);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CURRENT.get();
+    }
+}
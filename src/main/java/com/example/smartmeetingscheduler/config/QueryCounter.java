@@ -0,0 +1,50 @@
+// src/main/java/com/example/smartmeetingscheduler/config/QueryCounter.java
+package com.example.smartmeetingscheduler.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. A JDBC batch is prepared once,
+ * so it counts as one. Callers take the difference of two {@link #current()} readings.
+ * {@link #capture} also hands back the SQL text itself, e.g. to explain the statements Hibernate generates.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    /** Runs {@code work} and returns the statements Hibernate prepared on this thread meanwhile, in order. */
+    public static List<String> capture(Runnable work) {
+        List<String> previous = CAPTURED.get();
+        List<String> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            work.run();
+        } finally {
+            CAPTURED.set(previous);
+        }
+        return captured;
+    }
+
+    public static long current() {
+        return COUNT.get()[0];
+    }
+
+    /** Adds statements that ran on other threads on behalf of this one. */
+    public static void add(long statements) {
+        COUNT.get()[0] += statements;
+    }
+}
@@ -0,0 +1,136 @@
+// src/main/java/com/example/smartmeetingscheduler/config/QueryPlanCheck.java
+package com.example.smartmeetingscheduler.config;
+
+import com.example.smartmeetingscheduler.repositories.EventRepository;
+import com.example.smartmeetingscheduler.repositories.RecurringEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Logs the H2 query plan of each scheduling repository query at startup and warns when one falls back to
+ * a table scan, so a missing or unused index shows up before the tables get large. The SQL is the one
+ * Hibernate generates: each query runs once with probe arguments while {@link QueryCounter#capture} records
+ * its statements, whose parameters are then inlined as literals for EXPLAIN.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "scheduler.query-plan-check.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryPlanCheck implements ApplicationRunner {
+
+    private static final Instant PROBE_TIME = Instant.parse("2024-09-01T09:00:00Z");
+    private static final String TIME_LITERAL = "TIMESTAMP WITH TIME ZONE '2024-09-01 09:00:00+00'";
+    private static final List<String> PROBE_USERS = List.of("probe1", "probe2");
+
+    // The column a parameter is compared with: "col = ?", "col < ?", "col in (?, ?, ?"
+    private static final Pattern PARAMETER_COLUMN = Pattern.compile(
+            "(\\w+)\\s*(?:=|<>|<=|>=|<|>|\\bin\\s*\\((?:\\s*\\?\\s*,)*)\\s*$", Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RecurringEventRepository recurringEventRepository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public QueryPlanCheck(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        plans().forEach((name, plan) -> {
+            if (plan.contains("tableScan")) {
+                log.warn("Query plan for {} uses a full table scan:\n{}", name, plan);
+            } else {
+                log.info("Query plan for {}:\n{}", name, plan);
+            }
+        });
+    }
+
+    /** Plan of every statement behind each probed repository query, by query name. */
+    public Map<String, String> plans() {
+        Map<String, String> plans = new LinkedHashMap<>();
+        probes().forEach((name, probe) -> {
+            try {
+                List<String> statements = QueryCounter.capture(() -> readOnlyTransaction.executeWithoutResult(status -> probe.run()));
+                if (statements.isEmpty()) {
+                    plans.put(name, "Could not explain: no statement was prepared");
+                    return;
+                }
+                StringBuilder plan = new StringBuilder();
+                for (String sql : statements) {
+                    plan.append(String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + inline(sql), String.class))).append('\n');
+                }
+                plans.put(name, plan.toString().strip());
+            } catch (Exception e) {
+                plans.put(name, "Could not explain: " + e.getMessage());
+            }
+        });
+        return plans;
+    }
+
+    private Map<String, Runnable> probes() {
+        Instant t = PROBE_TIME;
+        Map<String, Runnable> probes = new LinkedHashMap<>();
+        probes.put("EventRepository.countOverlappingForUsers", () -> eventRepository.countOverlappingForUsers(PROBE_USERS, t, t));
+        probes.put("EventRepository.streamBusyIntervals", () -> firstRow(eventRepository.streamBusyIntervals(PROBE_USERS, t, t)));
+        probes.put("EventRepository.findMaxEndBeforeForUsers", () -> eventRepository.findMaxEndBeforeForUsers(PROBE_USERS, t));
+        probes.put("EventRepository.findMinStartAfterForUsers", () -> eventRepository.findMinStartAfterForUsers(PROBE_USERS, t));
+        probes.put("EventRepository.streamCalendar", () -> firstRow(eventRepository.streamCalendar("probe", t, t, t, 0L)));
+        probes.put("EventRepository.findByUserIdAndStartTimeGreaterThanEqualAndEndTimeLessThanEqual",
+                () -> eventRepository.findByUserIdAndStartTimeGreaterThanEqualAndEndTimeLessThanEqual("probe", t, t));
+        probes.put("EventRepository.findMeetingsOverlapping", () -> eventRepository.findMeetingsOverlapping("probe", t, t));
+        probes.put("EventRepository.findByMeetingId", () -> eventRepository.findByMeetingId("probe"));
+        probes.put("RecurringEventRepository.findByUserIds", () -> recurringEventRepository.findByUserIds(PROBE_USERS));
+        return probes;
+    }
+
+    // A stream only runs its query once a row is asked for
+    private static void firstRow(Stream<?> rows) {
+        try (rows) {
+            rows.findFirst();
+        }
+    }
+
+    // Parameters become literals typed by the column they are compared with; the probes only compare ids and times
+    private static String inline(String sql) {
+        StringBuilder inlined = new StringBuilder();
+        int parameter = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c != '?') {
+                inlined.append(c);
+                continue;
+            }
+            parameter++;
+            Matcher column = PARAMETER_COLUMN.matcher(sql.substring(0, i));
+            if (!column.find()) {
+                throw new IllegalArgumentException("No column for parameter " + parameter + " in " + sql);
+            }
+            String name = column.group(1).toLowerCase();
+            inlined.append(name.endsWith("_time") || name.endsWith("_start") ? TIME_LITERAL
+                    : name.equals("id") ? "0" : "'probe'");
+        }
+        return inlined.toString();
+    }
+}
@@ -0,0 +1,60 @@
+// src/main/java/com/example/smartmeetingscheduler/config/ScoringConfig.java
+package com.example.smartmeetingscheduler.config;
+
+import com.example.smartmeetingscheduler.scheduling.CandidateScorer;
+import com.example.smartmeetingscheduler.scheduling.ScoringPolicies;
+import com.example.smartmeetingscheduler.scheduling.ScoringRules;
+import com.example.smartmeetingscheduler.scheduling.SlotScorerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class ScoringConfig {
+
+    // Name of the policy from scheduler.scoring.rules; tenant policies are named after their tenant id
+    private static final String DEFAULT_POLICY = "default";
+
+    // The built-in scorer; any other SlotScorerFactory bean can be chosen by its name
+    @Bean
+    public SlotScorerFactory rulesScorer() {
+        return CandidateScorer.FACTORY;
+    }
+
+    // Rule lists are compiled and scorer names resolved here, so a malformed policy fails startup instead of a request
+    @Bean
+    public ScoringPolicies scoringPolicies(Environment environment, Map<String, SlotScorerFactory> scorerFactories,
+                                           @Value("${scheduler.scoring.rules:" + ScoringRules.DEFAULT_SPEC + "}") String defaultRules,
+                                           @Value("${scheduler.scoring.scorer:rulesScorer}") String defaultScorer) {
+        Map<String, String> tenantRules = Binder.get(environment)
+                .bind("scheduler.scoring.tenants", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        Map<String, ScoringRules> tenants = new HashMap<>();
+        tenantRules.forEach((tenant, rules) -> tenants.put(tenant, ScoringRules.parse(tenant, rules)));
+
+        Map<String, String> tenantScorerNames = Binder.get(environment)
+                .bind("scheduler.scoring.scorers", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        if (tenantRules.containsKey(DEFAULT_POLICY) || tenantScorerNames.containsKey(DEFAULT_POLICY)) {
+            throw new IllegalStateException("Tenant id '" + DEFAULT_POLICY + "' is reserved for the default scoring policy");
+        }
+        Map<String, SlotScorerFactory> tenantScorers = new HashMap<>();
+        tenantScorerNames.forEach((tenant, name) -> tenantScorers.put(tenant, scorerFactory(scorerFactories, name)));
+        return new ScoringPolicies(ScoringRules.parse(DEFAULT_POLICY, defaultRules), tenants,
+                scorerFactory(scorerFactories, defaultScorer), tenantScorers);
+    }
+
+    private static SlotScorerFactory scorerFactory(Map<String, SlotScorerFactory> scorerFactories, String name) {
+        SlotScorerFactory factory = scorerFactories.get(name);
+        if (factory == null) {
+            throw new IllegalStateException("No SlotScorerFactory bean named '" + name + "'; known: " + scorerFactories.keySet());
+        }
+        return factory;
+    }
+}
@@ -1,13 +1,23 @@
 package com.example.smartmeetingscheduler.controllers;
 
+import com.example.smartmeetingscheduler.dto.BatchScheduleRequest;
+import com.example.smartmeetingscheduler.dto.BatchScheduleResponse;
 import com.example.smartmeetingscheduler.dto.EventDto;
+import com.example.smartmeetingscheduler.dto.EventUpdateRequest;
+import com.example.smartmeetingscheduler.dto.EventUpdateResponse;
 import com.example.smartmeetingscheduler.dto.MeetingResponse;
+import com.example.smartmeetingscheduler.dto.RecurringEventDto;
 import com.example.smartmeetingscheduler.dto.ScheduleRequest;
+import com.example.smartmeetingscheduler.dto.SlotSuggestion;
+import com.example.smartmeetingscheduler.services.BatchScheduleService;
 import com.example.smartmeetingscheduler.services.EventService;
+import com.example.smartmeetingscheduler.services.RecurringEventService;
+import com.example.smartmeetingscheduler.services.RescheduleService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -19,16 +29,75 @@ public class SchedulerController {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private BatchScheduleService batchScheduleService;
+
+    @Autowired
+    private RecurringEventService recurringEventService;
+
+    @Autowired
+    private RescheduleService rescheduleService;
+
     @PostMapping("/schedule")
     @ResponseStatus(HttpStatus.CREATED)
     public CompletableFuture<MeetingResponse> schedule(@Valid @RequestBody ScheduleRequest request) {
         return eventService.scheduleMeeting(request);
     }
 
+    // Places the meetings one after another against a single calendar load and commits them together
+    @PostMapping("/schedule/batch")
+    public CompletableFuture<BatchScheduleResponse> scheduleBatch(@Valid @RequestBody BatchScheduleRequest request) {
+        return batchScheduleService.scheduleBatch(request);
+    }
+
+    // Ranked preview of the best slots; books nothing
+    @PostMapping("/schedule/suggestions")
+    public CompletableFuture<List<SlotSuggestion>> suggest(@Valid @RequestBody ScheduleRequest request,
+                                                           @RequestParam(value = "k", defaultValue = "5") int k) {
+        return eventService.suggestSlots(request, k);
+    }
+
     @GetMapping("/users/{userId}/calendar")
     public CompletableFuture<List<EventDto>> getCalendar(@PathVariable String userId,
                                                         @RequestParam("start") String start,
                                                         @RequestParam("end") String end) {
         return eventService.getUserCalendar(userId, start, end);
     }
-}
\ No newline at end of file
+
+    // Same calendar as NDJSON, streamed from a cursor; resume with after=<cursor of the last line>
+    @GetMapping(value = "/users/{userId}/calendar", produces = "application/x-ndjson")
+    public StreamingResponseBody streamCalendar(@PathVariable String userId,
+                                                @RequestParam("start") String start,
+                                                @RequestParam("end") String end,
+                                                @RequestParam(value = "after", required = false) String after,
+                                                @RequestParam(value = "limit", required = false) Integer limit) {
+        return eventService.streamUserCalendar(userId, start, end, after, limit);
+    }
+
+    // Stored once and expanded per request into busy time and calendar entries
+    @PostMapping("/users/{userId}/recurring-events")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CompletableFuture<RecurringEventDto> createRecurringEvent(@PathVariable String userId,
+                                                                    @Valid @RequestBody RecurringEventDto request) {
+        return recurringEventService.createRecurringEvent(userId, request);
+    }
+
+    @DeleteMapping("/users/{userId}/recurring-events/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public CompletableFuture<Void> deleteRecurringEvent(@PathVariable String userId, @PathVariable Long id) {
+        return recurringEventService.deleteRecurringEvent(userId, id);
+    }
+
+    // Moves a standalone event and re-places only the booked meetings it now collides with
+    @PutMapping("/events/{id}")
+    public CompletableFuture<EventUpdateResponse> updateEvent(@PathVariable Long id,
+                                                              @Valid @RequestBody EventUpdateRequest request) {
+        return rescheduleService.updateEvent(id, request);
+    }
+
+    @DeleteMapping("/events/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public CompletableFuture<Void> cancelEvent(@PathVariable Long id) {
+        return rescheduleService.cancelEvent(id);
+    }
+}
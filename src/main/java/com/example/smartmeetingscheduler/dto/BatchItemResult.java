@@ -0,0 +1,16 @@
+package com.example.smartmeetingscheduler.dto;
+
+import lombok.Data;
+
+@Data
+public class BatchItemResult {
+    private int index;
+    private Status status;
+    private MeetingResponse meeting;
+    private String error;
+
+    public enum Status {
+        SCHEDULED,
+        FAILED
+    }
+}
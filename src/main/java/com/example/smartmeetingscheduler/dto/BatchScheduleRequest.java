@@ -0,0 +1,25 @@
+package com.example.smartmeetingscheduler.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchScheduleRequest {
+    @NotEmpty(message = "Requests cannot be empty")
+    @Size(max = 1000, message = "At most 1000 requests per batch")
+    private List<@Valid @NotNull ScheduleRequest> requests;
+
+    // Placement order; results are always returned in request order
+    private Order order = Order.AS_GIVEN;
+
+    public enum Order {
+        AS_GIVEN,
+        PRIORITY,       // highest priority first
+        TIGHTEST_FIRST  // fewest free candidate slots first
+    }
+}
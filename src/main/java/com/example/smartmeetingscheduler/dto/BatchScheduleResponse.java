@@ -0,0 +1,12 @@
+package com.example.smartmeetingscheduler.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchScheduleResponse {
+    private int scheduled;
+    private int failed;
+    private List<BatchItemResult> results;
+}
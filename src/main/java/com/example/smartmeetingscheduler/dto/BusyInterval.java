@@ -0,0 +1,12 @@
+package com.example.smartmeetingscheduler.dto;
+
+import java.time.Instant;
+
+// Projection of one busy interval; epoch millis so callers can feed primitive arrays directly
+public record BusyInterval(String userId, long startEpoch, long endEpoch) {
+
+    // Used by the JPQL constructor expression in EventRepository
+    public BusyInterval(String userId, Instant start, Instant end) {
+        this(userId, start.toEpochMilli(), end.toEpochMilli());
+    }
+}
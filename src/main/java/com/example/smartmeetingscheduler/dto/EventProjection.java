@@ -0,0 +1,12 @@
+package com.example.smartmeetingscheduler.dto;
+
+import java.time.Instant;
+
+// Read-only calendar row; the cursor is the keyset position (ISO start + id) to resume after.
+// Starts keep sub-millisecond digits, so the cursor carries the full instant, not epoch millis
+public record EventProjection(Long id, String title, Instant startTime, Instant endTime) {
+
+    public String cursor() {
+        return startTime + "_" + id;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.smartmeetingscheduler.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class EventUpdateRequest {
+    // Keeps the current title when missing
+    private String title;
+
+    @NotNull(message = "Start time is required")
+    private String startTime;
+
+    @NotNull(message = "End time is required")
+    private String endTime;
+
+    // Scoring policy used to re-place colliding meetings, as in ScheduleRequest
+    private String tenantId;
+}
@@ -0,0 +1,18 @@
+package com.example.smartmeetingscheduler.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class EventUpdateResponse {
+    private Long id;
+    private String title;
+    private String startTime;
+    private String endTime;
+    // Booked meetings the new time collided with, moved to a new slot inside their original search window
+    private List<MeetingResponse> rescheduled = new ArrayList<>();
+    // Colliding meetings with no free slot left in their window; they keep their old time
+    private List<String> unresolved = new ArrayList<>();
+}
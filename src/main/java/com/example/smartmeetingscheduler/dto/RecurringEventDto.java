@@ -0,0 +1,45 @@
+package com.example.smartmeetingscheduler.dto;
+
+import com.example.smartmeetingscheduler.scheduling.RecurrenceRule;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+@Data
+public class RecurringEventDto {
+    private Long id;
+
+    @NotBlank(message = "Title is required")
+    private String title;
+
+    // First occurrence, e.g. 2024-09-02T09:30:00Z; later occurrences keep its local time in timeZone
+    @NotNull(message = "First start is required")
+    private String firstStart;
+
+    @Min(value = 1, message = "Duration must be at least 1 minute")
+    @Max(value = 1440, message = "Duration must be at most one day")
+    private int durationMinutes;
+
+    // Defaults to the user's time zone
+    private String timeZone;
+
+    @NotNull(message = "Frequency is required")
+    private RecurrenceRule.Frequency frequency;
+
+    @Min(value = 1, message = "Interval must be at least 1")
+    private int interval = 1;
+
+    // Weekly series only; defaults to the weekday of the first occurrence
+    private List<DayOfWeek> daysOfWeek;
+
+    // Latest occurrence start; open-ended when missing
+    private String until;
+
+    // Local dates (yyyy-MM-dd) on which the series is skipped
+    private List<String> exceptionDates;
+}
@@ -18,6 +18,12 @@ public class ScheduleRequest {
     @NotNull(message = "Time range is required")
     private TimeRange timeRange;
 
+    // Only used by batch scheduling with PRIORITY order; higher goes first
+    private Integer priority;
+
+    // Picks the tenant's scoring policy (scheduler.scoring.tenants.<id>); the default policy when missing or unknown
+    private String tenantId;
+
     @Data
     public static class TimeRange {
         @NotNull(message = "Start time is required")
@@ -0,0 +1,14 @@
+package com.example.smartmeetingscheduler.dto;
+
+import lombok.Data;
+
+@Data
+public class SlotSuggestion {
+    private String startTime;
+    private String endTime;
+    private int score;
+    // Score breakdown: score = earliness + workingHours + gaps
+    private int earliness;
+    private int workingHours;
+    private int gaps;
+}
@@ -0,0 +1,7 @@
+package com.example.smartmeetingscheduler.dto;
+
+import java.time.Instant;
+
+// Per-user aggregate such as the latest end before, or earliest start after, a window
+public record UserBoundary(String userId, Instant time) {
+}
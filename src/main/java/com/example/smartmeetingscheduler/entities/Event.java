@@ -9,12 +9,20 @@ import lombok.Setter;
 import java.time.Instant;
 
 @Entity
+@Table(indexes = {
+        // Every repository query filters on one user and a range of start or end times
+        @Index(name = "idx_event_user_start", columnList = "user_id, start_time"),
+        @Index(name = "idx_event_user_end", columnList = "user_id, end_time")
+})
+@EntityListeners(EventWriteListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 public class Event {
+    // Pooled sequence so Hibernate can assign ids in memory and batch the inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -25,10 +33,31 @@ public class Event {
     @JoinColumn(name = "user_id")
     private User user;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "meeting_id")
+    private Meeting meeting;
+
+    // Times as loaded, so an update can invalidate the range the event moved away from
+    @Transient
+    private Instant loadedStartTime;
+    @Transient
+    private Instant loadedEndTime;
+
     public Event(String title, Instant startTime, Instant endTime, User user) {
         this.title = title;
         this.startTime = startTime;
         this.endTime = endTime;
         this.user = user;
     }
-}
\ No newline at end of file
+
+    public Event(String title, Instant startTime, Instant endTime, User user, Meeting meeting) {
+        this(title, startTime, endTime, user);
+        this.meeting = meeting;
+    }
+
+    @PostLoad
+    void snapshotTimes() {
+        this.loadedStartTime = startTime;
+        this.loadedEndTime = endTime;
+    }
+}
@@ -0,0 +1,56 @@
+// src/main/java/com/example/smartmeetingscheduler/entities/EventWriteListener.java
+package com.example.smartmeetingscheduler.entities;
+
+import com.example.smartmeetingscheduler.scheduling.FreeBusyCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidates the free/busy cache for every Event write, whichever code path made it. The user's
+ * cached buckets stay bypassed until the surrounding transaction completes.
+ */
+@Component
+public class EventWriteListener {
+
+    private final FreeBusyCache freeBusyCache;
+
+    // Hibernate has Spring construct its own instance; field injection is skipped for it in AOT-processed builds
+    public EventWriteListener(FreeBusyCache freeBusyCache) {
+        this.freeBusyCache = freeBusyCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Event event) {
+        if (event.getUser() == null || event.getStartTime() == null || event.getEndTime() == null) {
+            return;
+        }
+        String userId = event.getUser().getId();
+        long start = event.getStartTime().toEpochMilli();
+        long end = event.getEndTime().toEpochMilli();
+        if (event.getLoadedStartTime() != null && event.getLoadedEndTime() != null) {
+            // An update also frees the range the event was loaded with
+            start = Math.min(start, event.getLoadedStartTime().toEpochMilli());
+            end = Math.max(end, event.getLoadedEndTime().toEpochMilli());
+        }
+        long rangeStart = start;
+        long rangeEnd = end;
+
+        freeBusyCache.beginWrite(userId, rangeStart, rangeEnd);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    freeBusyCache.endWrite(userId, rangeStart, rangeEnd);
+                }
+            });
+        } else {
+            freeBusyCache.endWrite(userId, rangeStart, rangeEnd);
+        }
+    }
+}
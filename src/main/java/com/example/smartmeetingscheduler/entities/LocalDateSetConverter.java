@@ -0,0 +1,40 @@
+// src/main/java/com/example/smartmeetingscheduler/entities/LocalDateSetConverter.java
+package com.example.smartmeetingscheduler.entities;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.TreeSet;
+
+// Stores a set of dates as "2024-09-02,2024-09-09" so a series and its exceptions load as one row
+@Converter
+public class LocalDateSetConverter implements AttributeConverter<Set<LocalDate>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Set<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return null;
+        }
+        StringBuilder column = new StringBuilder();
+        for (LocalDate date : new TreeSet<>(dates)) {
+            if (column.length() > 0) {
+                column.append(',');
+            }
+            column.append(date);
+        }
+        return column.toString();
+    }
+
+    @Override
+    public Set<LocalDate> convertToEntityAttribute(String column) {
+        Set<LocalDate> dates = new TreeSet<>();
+        if (column != null && !column.isEmpty()) {
+            for (String date : column.split(",")) {
+                dates.add(LocalDate.parse(date));
+            }
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,59 @@
+// src/main/java/com/example/smartmeetingscheduler/entities/Meeting.java
+package com.example.smartmeetingscheduler.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+public class Meeting implements Persistable<String> {
+    @Id
+    private String id;
+
+    private String title;
+    private Instant startTime;
+    private Instant endTime;
+
+    // The range the meeting was searched in; a meeting that has to move is re-placed inside it
+    private Instant windowStart;
+    private Instant windowEnd;
+
+    // Assigned ids would make save() merge (and SELECT first); track newness ourselves instead
+    @Transient
+    private boolean newEntity = true;
+
+    public Meeting(String id, String title, Instant startTime, Instant endTime) {
+        this.id = id;
+        this.title = title;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public Meeting(String id, String title, Instant startTime, Instant endTime, Instant windowStart, Instant windowEnd) {
+        this(id, title, startTime, endTime);
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
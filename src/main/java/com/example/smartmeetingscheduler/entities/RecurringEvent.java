@@ -0,0 +1,58 @@
+// src/main/java/com/example/smartmeetingscheduler/entities/RecurringEvent.java
+package com.example.smartmeetingscheduler.entities;
+
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.RecurrenceRule;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A recurring event stored as one row. Occurrences are never saved as Events; the scheduler and the
+ * calendar expand the rule for the window they need.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_recurring_event_user", columnList = "user_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecurringEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String title;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    // First occurrence; later ones keep its local start time in timeZone
+    private Instant firstStart;
+    private int durationMinutes;
+    private String timeZone = "UTC";
+
+    @Enumerated(EnumType.STRING)
+    private RecurrenceRule.Frequency frequency;
+    private int repeatInterval = 1;
+    private int weekdays; // ISO weekday bitmask (bit 0 = Monday) for weekly series; 0 = the first occurrence's day
+    private Instant repeatUntil; // latest occurrence start, or null for open-ended series
+
+    @Convert(converter = LocalDateSetConverter.class)
+    @Column(length = 4000)
+    private Set<LocalDate> exceptionDates = new TreeSet<>(); // local dates without an occurrence
+
+    public RecurrenceRule toRule() {
+        return new RecurrenceRule(firstStart.toEpochMilli(), Duration.ofMinutes(durationMinutes).toMillis(),
+                ZoneId.of(timeZone), frequency, repeatInterval, weekdays,
+                repeatUntil != null ? repeatUntil.toEpochMilli() : IntervalIndex.NONE, exceptionDates);
+    }
+}
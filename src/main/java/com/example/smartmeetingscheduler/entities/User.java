@@ -3,23 +3,49 @@ package com.example.smartmeetingscheduler.entities;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalTime;
 
 @Entity
 @Table(name = "users") // Changed from default "user" to "users"
 @Getter
 @Setter
 @NoArgsConstructor
-public class User {
+public class User implements Persistable<String> {
     @Id
     private String id;
     private String name;
 
+    // Local working hours used for scoring; missing values fall back to 09:00-17:00 UTC
+    private String timeZone = "UTC";
+    private LocalTime workdayStart = LocalTime.of(9, 0);
+    private LocalTime workdayEnd = LocalTime.of(17, 0);
+
+    // Assigned ids would make save() merge (and SELECT first); track newness ourselves instead
+    @Transient
+    private boolean newEntity = true;
+
     public User(String id, String name) {
         this.id = id;
         this.name = name;
     }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.example.smartmeetingscheduler.exceptions;
 
+import com.example.smartmeetingscheduler.config.AdmissionLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -13,6 +17,13 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Absent when admission control is disabled
+    private final ObjectProvider<AdmissionLimiter> admissionLimiter;
+
+    public GlobalExceptionHandler(ObjectProvider<AdmissionLimiter> admissionLimiter) {
+        this.admissionLimiter = admissionLimiter;
+    }
+
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<Map<String, String>> handleResponseStatusException(ResponseStatusException ex) {
         Map<String, String> errorResponse = new HashMap<>();
@@ -28,6 +39,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
 
+    // The executor queue is full; admission control normally sheds load before this happens.
+    // Retry-After comes from the limiter so both 503 paths give the same advice
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleTaskRejectedException(TaskRejectedException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Scheduler is at capacity, please retry");
+        AdmissionLimiter limiter = admissionLimiter.getIfAvailable();
+        long retryAfter = limiter != null ? limiter.retryAfterSeconds() : AdmissionLimiter.MIN_RETRY_AFTER_SECONDS;
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception ex) {
         Map<String, String> errorResponse = new HashMap<>();
@@ -1,23 +1,57 @@
 package com.example.smartmeetingscheduler.repositories;
 
+import com.example.smartmeetingscheduler.dto.BusyInterval;
+import com.example.smartmeetingscheduler.dto.EventProjection;
+import com.example.smartmeetingscheduler.dto.UserBoundary;
 import com.example.smartmeetingscheduler.entities.Event;
+import com.example.smartmeetingscheduler.entities.Meeting;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-    @Query("SELECT e FROM Event e WHERE e.user.id = :userId AND e.startTime < :end AND e.endTime > :start")
-    List<Event> findOverlapping(@Param("userId") String userId, @Param("start") Instant start, @Param("end") Instant end);
+    @Query("SELECT count(e) FROM Event e WHERE e.user.id IN :userIds AND e.startTime < :end AND e.endTime > :start")
+    long countOverlappingForUsers(@Param("userIds") Collection<String> userIds, @Param("start") Instant start, @Param("end") Instant end);
 
-    @Query("SELECT max(e.endTime) FROM Event e WHERE e.user.id = :userId AND e.endTime <= :time")
-    Instant findMaxEndBefore(@Param("userId") String userId, @Param("time") Instant time);
+    // Busy intervals of many users in one ordered scan, without loading Event or User entities
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.example.smartmeetingscheduler.dto.BusyInterval(e.user.id, e.startTime, e.endTime) FROM Event e " +
+            "WHERE e.user.id IN :userIds AND e.startTime < :end AND e.endTime > :start ORDER BY e.user.id, e.startTime")
+    Stream<BusyInterval> streamBusyIntervals(@Param("userIds") Collection<String> userIds, @Param("start") Instant start, @Param("end") Instant end);
 
-    @Query("SELECT min(e.startTime) FROM Event e WHERE e.user.id = :userId AND e.startTime >= :time")
-    Instant findMinStartAfter(@Param("userId") String userId, @Param("time") Instant time);
+    @Query("SELECT new com.example.smartmeetingscheduler.dto.UserBoundary(e.user.id, max(e.endTime)) FROM Event e " +
+            "WHERE e.user.id IN :userIds AND e.endTime <= :time GROUP BY e.user.id")
+    List<UserBoundary> findMaxEndBeforeForUsers(@Param("userIds") Collection<String> userIds, @Param("time") Instant time);
+
+    @Query("SELECT new com.example.smartmeetingscheduler.dto.UserBoundary(e.user.id, min(e.startTime)) FROM Event e " +
+            "WHERE e.user.id IN :userIds AND e.startTime >= :time GROUP BY e.user.id")
+    List<UserBoundary> findMinStartAfterForUsers(@Param("userIds") Collection<String> userIds, @Param("time") Instant time);
+
+    // Keyset-paged calendar cursor ordered by (startTime, id); pass the last row's position as afterStart/afterId
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT new com.example.smartmeetingscheduler.dto.EventProjection(e.id, e.title, e.startTime, e.endTime) FROM Event e " +
+            "WHERE e.user.id = :userId AND e.startTime >= :start AND e.endTime <= :end " +
+            "AND (e.startTime > :afterStart OR (e.startTime = :afterStart AND e.id > :afterId)) ORDER BY e.startTime, e.id")
+    Stream<EventProjection> streamCalendar(@Param("userId") String userId, @Param("start") Instant start, @Param("end") Instant end,
+                                           @Param("afterStart") Instant afterStart, @Param("afterId") long afterId);
+
+    // Booked meetings of one user that overlap a range, e.g. the new time of a moved event
+    @Query("SELECT DISTINCT e.meeting FROM Event e WHERE e.user.id = :userId AND e.meeting IS NOT NULL " +
+            "AND e.startTime < :end AND e.endTime > :start")
+    List<Meeting> findMeetingsOverlapping(@Param("userId") String userId, @Param("start") Instant start, @Param("end") Instant end);
+
+    List<Event> findByMeetingId(String meetingId);
 
     List<Event> findByUserIdAndStartTimeGreaterThanEqualAndEndTimeLessThanEqual(
             String userId, Instant start, Instant end);
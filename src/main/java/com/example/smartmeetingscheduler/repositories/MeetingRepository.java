@@ -0,0 +1,7 @@
+package com.example.smartmeetingscheduler.repositories;
+
+import com.example.smartmeetingscheduler.entities.Meeting;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MeetingRepository extends JpaRepository<Meeting, String> {
+}
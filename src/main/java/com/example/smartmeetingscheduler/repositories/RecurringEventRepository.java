@@ -0,0 +1,16 @@
+package com.example.smartmeetingscheduler.repositories;
+
+import com.example.smartmeetingscheduler.entities.RecurringEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RecurringEventRepository extends JpaRepository<RecurringEvent, Long> {
+
+    // One row per series, however many occurrences fall in the window being scheduled
+    @Query("SELECT r FROM RecurringEvent r WHERE r.user.id IN :userIds")
+    List<RecurringEvent> findByUserIds(@Param("userIds") Collection<String> userIds);
+}
@@ -0,0 +1,123 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/AvailabilityBitmap.java
+package com.example.smartmeetingscheduler.scheduling;
+
+/**
+ * Grid-aligned slot finder. Busy time becomes one bit per grid cell (a week of 15-minute cells is
+ * 672 bits, eleven words), participants are OR-ed into the same words, and runs of free cells long
+ * enough for the meeting are found with shift-and passes and bit scans. The cost depends on the length
+ * of the range in words, not on how many participants or events there are.
+ */
+public final class AvailabilityBitmap {
+
+    private static final long MAX_CELLS = 1 << 24;
+
+    private AvailabilityBitmap() {
+    }
+
+    /**
+     * Same result as {@link FreeSlotFinder#candidateStarts} on a grid anchored at {@code rangeStart}, or null
+     * when the bitmap cannot represent the request: a duration that is not a whole number of steps, or a
+     * zero-length interval in the range (it splits gaps on an instant, not on a cell).
+     */
+    public static long[] candidateStarts(IntervalIndex[] indexes, long rangeStart, long rangeEnd,
+                                         long durationMs, long stepMs) {
+        if (durationMs <= 0 || durationMs % stepMs != 0 || rangeEnd < rangeStart
+                || (rangeEnd - rangeStart) / stepMs > MAX_CELLS) {
+            return null;
+        }
+        int cells = (int) ((rangeEnd - rangeStart) / stepMs);
+        int run = (int) (durationMs / stepMs);
+        if (run > cells) {
+            return new long[0];
+        }
+
+        // Bit j: cell [rangeStart + j * step, rangeStart + (j + 1) * step) overlaps someone's busy time
+        long[] bits = new long[(cells + 63) >>> 6];
+        for (IntervalIndex index : indexes) {
+            if (!markBusy(index, bits, rangeStart, rangeEnd, stepMs, cells)) {
+                return null;
+            }
+        }
+
+        // Invert to free cells, dropping the padding past the last cell
+        for (int w = 0; w < bits.length; w++) {
+            bits[w] = ~bits[w];
+        }
+        if ((cells & 63) != 0) {
+            bits[bits.length - 1] &= -1L >>> (64 - (cells & 63));
+        }
+
+        // Bit j: cells j .. j + have - 1 are all free; doubling gets to `run` in log2(run) passes
+        for (int have = 1; have < run; ) {
+            int shift = Math.min(have, run - have);
+            andShiftedDown(bits, shift);
+            have += shift;
+        }
+
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        long[] out = new long[count];
+        int n = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                out[n++] = rangeStart + ((long) (w << 6) + Long.numberOfTrailingZeros(word)) * stepMs;
+                word &= word - 1;
+            }
+        }
+        return out;
+    }
+
+    private static boolean markBusy(IntervalIndex index, long[] bits, long rangeStart, long rangeEnd,
+                                    long stepMs, int cells) {
+        for (int i = 0; i < index.size(); i++) {
+            long start = index.startAt(i);
+            long end = index.endAt(i);
+            if (start >= rangeEnd) {
+                break; // sorted by start
+            }
+            if (end <= rangeStart) {
+                continue;
+            }
+            if (start == end) {
+                return false;
+            }
+            long first = Math.floorDiv(Math.max(start, rangeStart) - rangeStart, stepMs);
+            long last = Math.min(cells - 1L, -Math.floorDiv(rangeStart - Math.min(end, rangeEnd), stepMs) - 1);
+            if (first <= last) {
+                setRange(bits, (int) first, (int) last);
+            }
+        }
+        return true;
+    }
+
+    // bits[j] &= bits[j + shift] for every bit, in place; bits shifted in from past the end are zero
+    private static void andShiftedDown(long[] bits, int shift) {
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        for (int w = 0; w < bits.length; w++) {
+            int from = w + wordShift;
+            long lo = from < bits.length ? bits[from] : 0L;
+            long hi = from + 1 < bits.length ? bits[from + 1] : 0L;
+            bits[w] &= bitShift == 0 ? lo : (lo >>> bitShift) | (hi << (64 - bitShift));
+        }
+    }
+
+    private static void setRange(long[] words, int from, int to) {
+        int firstWord = from >>> 6;
+        int lastWord = to >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - (to & 63));
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            words[w] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+}
@@ -0,0 +1,184 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/CandidateScorer.java
+package com.example.smartmeetingscheduler.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * Scores candidate slots for one scheduling request with a compiled {@link ScoringRules} policy.
+ * Everything works on epoch-millisecond longs prepared once per request, so scoring a batch of
+ * candidates allocates nothing.
+ */
+public final class CandidateScorer implements SlotScorer {
+
+    private static final long MINUTE_MS = 60_000L;
+
+    /** The built-in scorer: a score is the base terms plus each participant's {@link #gapTerms}. */
+    public static final SlotScorerFactory FACTORY = CandidateScorer::new;
+
+    private final IntervalIndex[] participants;
+    private final long rangeStart;
+    private final long durationMs;
+    private final WorkingHoursMask workingHours;
+    private final ScoringRules rules;
+
+    /** Every participant on the default 09:00-17:00 UTC working hours. */
+    public CandidateScorer(IntervalIndex[] participants, long rangeStart, long durationMs) {
+        this(participants, rangeStart, durationMs, WorkingHoursMask.direct(defaultProfiles(participants.length), durationMs));
+    }
+
+    public CandidateScorer(IntervalIndex[] participants, long rangeStart, long durationMs, WorkingHoursMask workingHours) {
+        this(participants, rangeStart, durationMs, workingHours, ScoringRules.DEFAULT);
+    }
+
+    public CandidateScorer(IntervalIndex[] participants, long rangeStart, long durationMs, WorkingHoursMask workingHours,
+                           ScoringRules rules) {
+        this.participants = participants;
+        this.rangeStart = rangeStart;
+        this.durationMs = durationMs;
+        this.workingHours = workingHours;
+        this.rules = rules;
+    }
+
+    private static WorkingHoursMask.Profile[] defaultProfiles(int count) {
+        WorkingHoursMask.Profile[] profiles = new WorkingHoursMask.Profile[count];
+        Arrays.fill(profiles, WorkingHoursMask.Profile.DEFAULT);
+        return profiles;
+    }
+
+    /** Each participant is walked once with forward-only cursors. */
+    @Override
+    public void scoreAll(long[] starts, int from, int to, int[] out) {
+        if (from >= to) {
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            out[i] = baseScore(starts[i]);
+        }
+
+        for (IntervalIndex index : participants) {
+            addGapTerms(index, starts, from, to, durationMs, rules, out);
+        }
+    }
+
+    /**
+     * One participant's share of the score (the gap terms) for each of {@code starts}, ascending. Scores
+     * are this plus the base terms summed over participants, so a participant whose calendar did not
+     * change can reuse its terms.
+     */
+    public static int[] gapTerms(IntervalIndex index, long[] starts, long durationMs, ScoringRules rules) {
+        int[] terms = new int[starts.length];
+        if (starts.length > 0) {
+            addGapTerms(index, starts, 0, starts.length, durationMs, rules, terms);
+        }
+        return terms;
+    }
+
+    /**
+     * {@link #gapTerms} for {@code index} from the terms of the same calendar before one interval,
+     * {@code [changedStart, changedEnd)}, was added to or removed from it. Only the starts that can have
+     * that interval as a neighbour are scored again; {@code terms} is left as it is.
+     */
+    public static int[] patchGapTerms(int[] terms, IntervalIndex index, long[] starts, long durationMs, ScoringRules rules,
+                                      long changedStart, long changedEnd) {
+        long before = index.maxEndAtOrBefore(changedStart);
+        long after = index.minStartAtOrAfter(changedEnd);
+        long low = before == IntervalIndex.NONE ? Long.MIN_VALUE : Math.min(before, changedStart - durationMs);
+        long high = after == IntervalIndex.NONE ? Long.MAX_VALUE : Math.max(after - durationMs, changedEnd);
+        int from = IntervalIndex.lowerBound(starts, low);
+        int to = IntervalIndex.upperBound(starts, high);
+        int[] patched = terms.clone();
+        if (from < to) {
+            Arrays.fill(patched, from, to, 0);
+            addGapTerms(index, starts, from, to, durationMs, rules, patched);
+        }
+        return patched;
+    }
+
+    private static void addGapTerms(IntervalIndex index, long[] starts, int from, int to, long durationMs,
+                                    ScoringRules rules, int[] out) {
+        long[] intervalStarts = index.starts();
+        long[] sortedEnds = index.sortedEnds();
+        long floorEnd = index.floorEnd();
+        long ceilStart = index.ceilStart();
+        int prev = IntervalIndex.upperBound(sortedEnds, starts[from]);
+        int next = IntervalIndex.lowerBound(intervalStarts, starts[from] + durationMs);
+
+        for (int i = from; i < to; i++) {
+            long start = starts[i];
+            long end = start + durationMs;
+            while (prev < sortedEnds.length && sortedEnds[prev] <= start) {
+                prev++;
+            }
+            while (next < intervalStarts.length && intervalStarts[next] < end) {
+                next++;
+            }
+
+            long prevEnd = prev > 0 ? sortedEnds[prev - 1] : (floorEnd != IntervalIndex.NONE && floorEnd <= start ? floorEnd : IntervalIndex.NONE);
+            long nextStart = next < intervalStarts.length ? intervalStarts[next] : (ceilStart != IntervalIndex.NONE && ceilStart >= end ? ceilStart : IntervalIndex.NONE);
+
+            int score = 0;
+            if (prevEnd != IntervalIndex.NONE) {
+                score += rules.gapScore((start - prevEnd) / MINUTE_MS);
+            }
+            if (nextStart != IntervalIndex.NONE) {
+                score += rules.gapScore((nextStart - end) / MINUTE_MS);
+            }
+            out[i] += score;
+        }
+    }
+
+    /**
+     * Highest score any slot starting at or after {@code start} can reach: the earliness term is
+     * non-increasing in the start time and the other terms are capped.
+     */
+    @Override
+    public int upperBound(long start) {
+        return earliness(start) + Math.max(0, rules.workingHoursBonus()) + 2 * rules.maxGapScore() * participants.length;
+    }
+
+    @Override
+    public Breakdown explain(long start) {
+        long end = start + durationMs;
+        int gaps = 0;
+        for (IntervalIndex index : participants) {
+            long prevEnd = index.maxEndAtOrBefore(start);
+            if (prevEnd != IntervalIndex.NONE) {
+                gaps += rules.gapScore((start - prevEnd) / MINUTE_MS);
+            }
+            long nextStart = index.minStartAtOrAfter(end);
+            if (nextStart != IntervalIndex.NONE) {
+                gaps += rules.gapScore((nextStart - end) / MINUTE_MS);
+            }
+        }
+        int earliness = earliness(start);
+        int workingHours = workingHours(start);
+        return new Breakdown(earliness + workingHours + gaps, earliness, workingHours, gaps);
+    }
+
+    /** Index of the highest score, earliest on ties (scores are in ascending start order), or -1 if empty. */
+    public static int bestIndex(int[] scores, int from, int to) {
+        int best = -1;
+        int maxScore = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            if (best == -1 || scores[i] > maxScore) {
+                maxScore = scores[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private int baseScore(long start) {
+        return earliness(start) + workingHours(start);
+    }
+
+    // Heuristic 1: Prefer earlier slots
+    private int earliness(long start) {
+        return rules.earliness((start - rangeStart) / MINUTE_MS);
+    }
+
+    // Heuristic 2: Prefer slots inside every participant's local working hours
+    private int workingHours(long start) {
+        return workingHours.allWorking(start) ? rules.workingHoursBonus() : 0;
+    }
+}
@@ -0,0 +1,213 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/FreeBusyCache.java
+package com.example.smartmeetingscheduler.scheduling;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU cache of busy intervals per (user, time bucket). A bucket holds every interval with
+ * {@code start < bucketEnd && end >= bucketStart}, as sorted primitive arrays.
+ *
+ * <p>Writes go through {@link #beginWrite}/{@link #endWrite} around the transaction. While a write is
+ * pending the user's lookups bypass the cache, and a load that started before a write can no longer be
+ * stored (its generation is stale), so nothing cached predates a committed booking.
+ */
+public final class FreeBusyCache {
+
+    public record Bucket(long[] starts, long[] ends) {
+        public int size() {
+            return starts.length;
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions, long invalidations, int size) {
+    }
+
+    private record Key(String userId, long bucket) {
+    }
+
+    private static final class UserState {
+        long generation;
+        int pendingWrites;
+    }
+
+    private final long bucketMillis;
+    private final Map<Key, Bucket> buckets;
+    private final Map<String, UserState> users = new HashMap<>();
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public FreeBusyCache(int maxBuckets, long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+        this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Bucket> eldest) {
+                if (size() > maxBuckets) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public long bucketOf(long time) {
+        return Math.floorDiv(time, bucketMillis);
+    }
+
+    public long bucketStart(long bucket) {
+        return bucket * bucketMillis;
+    }
+
+    /** Buckets {@code first..last} for the user, or null if any is missing or a write is in flight. */
+    public synchronized Bucket[] get(String userId, long first, long last) {
+        UserState state = users.get(userId);
+        if (state != null && state.pendingWrites > 0) {
+            misses++;
+            return null;
+        }
+        Bucket[] result = new Bucket[(int) (last - first + 1)];
+        for (long b = first; b <= last; b++) {
+            Bucket bucket = buckets.get(new Key(userId, b));
+            if (bucket == null) {
+                misses++;
+                return null;
+            }
+            result[(int) (b - first)] = bucket;
+        }
+        hits++;
+        return result;
+    }
+
+    /** Snapshot to pass to {@link #put} once the database load finishes. */
+    public synchronized long generation(String userId) {
+        UserState state = users.get(userId);
+        return state == null ? 0 : state.generation;
+    }
+
+    public synchronized void put(String userId, long generation, long first, Bucket[] loaded) {
+        UserState state = users.get(userId);
+        long current = state == null ? 0 : state.generation;
+        if (current != generation || (state != null && state.pendingWrites > 0)) {
+            return; // A write overlapped the load; its data may already be stale
+        }
+        for (int i = 0; i < loaded.length; i++) {
+            buckets.put(new Key(userId, first + i), loaded[i]);
+        }
+    }
+
+    public synchronized void beginWrite(String userId, long start, long end) {
+        UserState state = users.computeIfAbsent(userId, id -> new UserState());
+        state.pendingWrites++;
+        state.generation++;
+        invalidate(userId, start, end);
+    }
+
+    /** Call after commit or rollback of the transaction that {@link #beginWrite} covered. */
+    public synchronized void endWrite(String userId, long start, long end) {
+        UserState state = users.computeIfAbsent(userId, id -> new UserState());
+        state.pendingWrites = Math.max(0, state.pendingWrites - 1);
+        state.generation++;
+        invalidate(userId, start, end);
+    }
+
+    /** Moves the user's generation on without dropping buckets, for changes the buckets do not hold (recurring series). */
+    public synchronized void touch(String userId) {
+        users.computeIfAbsent(userId, id -> new UserState()).generation++;
+    }
+
+    public synchronized void clear() {
+        buckets.clear();
+        for (UserState state : users.values()) {
+            state.generation++;
+        }
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, invalidations, buckets.size());
+    }
+
+    private void invalidate(String userId, long start, long end) {
+        for (long b = bucketOf(Math.min(start, end)); b <= bucketOf(Math.max(start, end)); b++) {
+            if (buckets.remove(new Key(userId, b)) != null) {
+                invalidations++;
+            }
+        }
+    }
+
+    /** Splits one user's intervals (sorted by start) into buckets {@code first..last}. */
+    public Bucket[] split(long first, long last, long[] starts, long[] ends, int n) {
+        int count = (int) (last - first + 1);
+        long[][] bucketStarts = new long[count][4];
+        long[][] bucketEnds = new long[count][4];
+        int[] sizes = new int[count];
+        for (int i = 0; i < n; i++) {
+            long from = Math.max(first, bucketOf(starts[i]));
+            long to = Math.min(last, bucketOf(ends[i]));
+            for (long b = from; b <= to; b++) {
+                int k = (int) (b - first);
+                if (sizes[k] == bucketStarts[k].length) {
+                    bucketStarts[k] = Arrays.copyOf(bucketStarts[k], sizes[k] * 2);
+                    bucketEnds[k] = Arrays.copyOf(bucketEnds[k], sizes[k] * 2);
+                }
+                bucketStarts[k][sizes[k]] = starts[i];
+                bucketEnds[k][sizes[k]] = ends[i];
+                sizes[k]++;
+            }
+        }
+        Bucket[] result = new Bucket[count];
+        for (int k = 0; k < count; k++) {
+            result[k] = new Bucket(Arrays.copyOf(bucketStarts[k], sizes[k]), Arrays.copyOf(bucketEnds[k], sizes[k]));
+        }
+        return result;
+    }
+
+    /**
+     * Builds the window index from buckets {@code first..}. Each interval is taken only from the bucket
+     * holding {@code max(start, windowStart)}, so intervals spanning buckets are not duplicated.
+     */
+    public IntervalIndex assemble(Bucket[] window, long first, long windowStart, long windowEnd, long floorEnd, long ceilStart) {
+        int total = 0;
+        for (Bucket bucket : window) {
+            total += bucket.size();
+        }
+        long[] starts = new long[total];
+        long[] ends = new long[total];
+        int n = 0;
+        for (int k = 0; k < window.length; k++) {
+            Bucket bucket = window[k];
+            for (int i = 0; i < bucket.size(); i++) {
+                long s = bucket.starts()[i];
+                long e = bucket.ends()[i];
+                if (s < windowEnd && e > windowStart && bucketOf(Math.max(s, windowStart)) == first + k) {
+                    starts[n] = s;
+                    ends[n] = e;
+                    n++;
+                }
+            }
+        }
+        return IntervalIndex.of(Arrays.copyOf(starts, n), Arrays.copyOf(ends, n), floorEnd, ceilStart);
+    }
+
+    /** Latest end {@code <= windowStart} found in the window's first bucket, or NONE if it has none. */
+    public static long floorEndIn(Bucket firstBucket, long windowStart) {
+        long best = IntervalIndex.NONE;
+        for (int i = 0; i < firstBucket.size(); i++) {
+            long e = firstBucket.ends()[i];
+            if (e <= windowStart && e > best) {
+                best = e;
+            }
+        }
+        return best;
+    }
+
+    /** Earliest start {@code >= windowEnd} found in the window's last bucket, or NONE if it has none. */
+    public static long ceilStartIn(Bucket lastBucket, long windowEnd) {
+        int i = IntervalIndex.lowerBound(lastBucket.starts(), windowEnd);
+        return i < lastBucket.size() ? lastBucket.starts()[i] : IntervalIndex.NONE;
+    }
+}
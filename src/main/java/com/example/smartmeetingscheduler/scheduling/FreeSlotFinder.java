@@ -0,0 +1,131 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/FreeSlotFinder.java
+package com.example.smartmeetingscheduler.scheduling;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Sweep-line slot finder. Merges every participant's busy intervals into one sorted free list
+ * and only enumerates grid-aligned start times that fit inside a free gap, so the cost depends
+ * on the number of events rather than on the length of the range.
+ */
+public final class FreeSlotFinder {
+
+    private FreeSlotFinder() {
+    }
+
+    /**
+     * Free gaps inside {@code [rangeStart, rangeEnd]} as a flat array {@code [gapStart0, gapEnd0, gapStart1, ...]}.
+     * A zero-length busy interval still splits a gap, matching the {@code start < end && end > start} overlap rule.
+     */
+    public static long[] freeGaps(Collection<IntervalIndex> indexes, long rangeStart, long rangeEnd) {
+        IntervalIndex[] lists = indexes.toArray(new IntervalIndex[0]);
+        int total = 0;
+        for (IntervalIndex index : lists) {
+            total += index.size();
+        }
+
+        // k-way merge of the per-user lists (each already sorted by start) with a min-heap of list ids
+        int[] pos = new int[lists.length];
+        int[] heap = new int[lists.length];
+        int heapSize = 0;
+        for (int i = 0; i < lists.length; i++) {
+            if (lists[i].size() > 0) {
+                heap[heapSize++] = i;
+                siftUp(heap, heapSize - 1, lists, pos);
+            }
+        }
+
+        long[] gaps = new long[2 * (total + 1)];
+        int g = 0;
+        long cursor = rangeStart;
+        while (heapSize > 0 && cursor <= rangeEnd) {
+            int top = heap[0];
+            long start = lists[top].startAt(pos[top]);
+            long end = lists[top].endAt(pos[top]);
+            if (++pos[top] == lists[top].size()) {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, heapSize, lists, pos);
+
+            if (start >= cursor) {
+                gaps[g++] = cursor;
+                gaps[g++] = Math.min(start, rangeEnd);
+            }
+            cursor = Math.max(cursor, end);
+        }
+        if (cursor <= rangeEnd) {
+            gaps[g++] = cursor;
+            gaps[g++] = rangeEnd;
+        }
+        return Arrays.copyOf(gaps, g);
+    }
+
+    /**
+     * Start times {@code rangeStart + k * stepMs} whose slot {@code [start, start + durationMs)} is free
+     * for every index and ends no later than {@code rangeEnd}, in ascending order.
+     */
+    public static long[] candidateStarts(Collection<IntervalIndex> indexes, long rangeStart, long rangeEnd,
+                                         long durationMs, long stepMs) {
+        long[] gaps = freeGaps(indexes, rangeStart, rangeEnd);
+        long[] out = new long[16];
+        int n = 0;
+        for (int g = 0; g < gaps.length; g += 2) {
+            long gapStart = gaps[g];
+            long gapEnd = gaps[g + 1];
+            if (gapEnd - gapStart < durationMs) {
+                continue;
+            }
+            // First grid point at or after the gap start
+            long k = Math.floorDiv(gapStart - rangeStart + stepMs - 1, stepMs);
+            for (long s = rangeStart + k * stepMs; s + durationMs <= gapEnd; s += stepMs) {
+                if (n == out.length) {
+                    out = Arrays.copyOf(out, n * 2);
+                }
+                out[n++] = s;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static long head(int list, IntervalIndex[] lists, int[] pos) {
+        return lists[list].startAt(pos[list]);
+    }
+
+    private static void siftUp(int[] heap, int i, IntervalIndex[] lists, int[] pos) {
+        int item = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (head(heap[parent], lists, pos) <= head(item, lists, pos)) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = item;
+    }
+
+    private static void siftDown(int[] heap, int size, IntervalIndex[] lists, int[] pos) {
+        if (size == 0) {
+            return;
+        }
+        int i = 0;
+        int item = heap[0];
+        long key = head(item, lists, pos);
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && head(heap[child + 1], lists, pos) < head(heap[child], lists, pos)) {
+                child++;
+            }
+            if (key <= head(heap[child], lists, pos)) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = item;
+    }
+}
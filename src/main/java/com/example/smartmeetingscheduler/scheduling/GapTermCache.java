@@ -0,0 +1,82 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/GapTermCache.java
+package com.example.smartmeetingscheduler.scheduling;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * LRU of per-participant gap terms over a search grid (see {@link CandidateScorer#gapTerms}), keyed by
+ * the participant's {@link FreeBusyCache} generation. Any write to the participant's calendar moves the
+ * generation on, so an entry is only found again while that calendar is unchanged, unless the writer
+ * {@link #derive derives} the entry for the new generation from the one it searched with. Terms cover the
+ * whole calendar; a search that leaves out one of its intervals patches them (see
+ * {@link CandidateScorer#patchGapTerms}). Bounded by the total number of cached terms.
+ */
+public final class GapTermCache {
+
+    /**
+     * {@code rules} is the compiled policy the terms were computed with. It compares by identity: policies are
+     * compiled once at startup, and names are chosen by configuration, so two policies may share one.
+     */
+    public record Key(String userId, long generation, ScoringRules rules, long rangeStart, long rangeEnd, long durationMs) {
+    }
+
+    public record Stats(long hits, long misses) {
+    }
+
+    private final long maxTerms;
+    private final Map<Key, int[]> entries;
+    private long size;
+    private long hits;
+    private long misses;
+
+    public GapTermCache(long maxTerms) {
+        this.maxTerms = maxTerms;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /** Cached terms for the key, computing them outside the lock on a miss. */
+    public int[] get(Key key, Supplier<int[]> compute) {
+        synchronized (this) {
+            int[] cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+        int[] terms = compute.get();
+        put(key, terms);
+        return terms;
+    }
+
+    /**
+     * Caches {@code change} applied to the terms under {@code from} as the terms under {@code to}, e.g. after
+     * a write whose effect on the calendar is known. Nothing happens if {@code from} is no longer cached.
+     */
+    public void derive(Key from, Key to, UnaryOperator<int[]> change) {
+        int[] terms;
+        synchronized (this) {
+            terms = entries.get(from);
+        }
+        if (terms != null) {
+            put(to, change.apply(terms));
+        }
+    }
+
+    private synchronized void put(Key key, int[] terms) {
+        int[] previous = entries.put(key, terms);
+        size += terms.length - (previous == null ? 0 : previous.length);
+        var eldest = entries.entrySet().iterator();
+        while (size > maxTerms && eldest.hasNext()) {
+            size -= eldest.next().getValue().length;
+            eldest.remove();
+        }
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses);
+    }
+}
@@ -0,0 +1,203 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/IntervalIndex.java
+package com.example.smartmeetingscheduler.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * Immutable per-user index of busy intervals (epoch millis) loaded once for a scheduling window.
+ * Overlap checks and the nearest busy time before or after a slot are binary searches instead of
+ * database round-trips.
+ */
+public final class IntervalIndex {
+
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final IntervalIndex EMPTY = new IntervalIndex(new long[0], new long[0], NONE, NONE);
+
+    private final long[] starts;        // interval starts, ascending
+    private final long[] ends;          // ends aligned with starts
+    private final long[] maxEndPrefix;  // maxEndPrefix[i] = max(ends[0..i])
+    private final long[] sortedEnds;    // all ends, ascending
+    private final long floorEnd;        // latest end at or before the window, or NONE
+    private final long ceilStart;       // earliest start at or after the window, or NONE
+
+    private IntervalIndex(long[] starts, long[] ends, long floorEnd, long ceilStart) {
+        this.starts = starts;
+        this.ends = ends;
+        this.floorEnd = floorEnd;
+        this.ceilStart = ceilStart;
+        this.maxEndPrefix = new long[ends.length];
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < ends.length; i++) {
+            max = Math.max(max, ends[i]);
+            maxEndPrefix[i] = max;
+        }
+        this.sortedEnds = ends.clone();
+        Arrays.sort(sortedEnds);
+    }
+
+    public static IntervalIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds an index from the intervals overlapping a window plus the two boundary values
+     * just outside it. {@code floorEnd} and {@code ceilStart} may be {@link #NONE}.
+     */
+    public static IntervalIndex of(long[] starts, long[] ends, long floorEnd, long ceilStart) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("starts and ends must have the same length");
+        }
+        int n = starts.length;
+        if (n == 0 && floorEnd == NONE && ceilStart == NONE) {
+            return EMPTY;
+        }
+        boolean sorted = true;
+        for (int i = 1; i < n && sorted; i++) {
+            sorted = starts[i - 1] <= starts[i];
+        }
+        if (sorted) {
+            return new IntervalIndex(starts.clone(), ends.clone(), floorEnd, ceilStart);
+        }
+        // Sort by start, carrying ends along
+        long[][] pairs = new long[n][];
+        for (int i = 0; i < n; i++) {
+            pairs[i] = new long[]{starts[i], ends[i]};
+        }
+        Arrays.sort(pairs, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        long[] sortedStarts = new long[n];
+        long[] alignedEnds = new long[n];
+        for (int i = 0; i < n; i++) {
+            sortedStarts[i] = pairs[i][0];
+            alignedEnds[i] = pairs[i][1];
+        }
+        return new IntervalIndex(sortedStarts, alignedEnds, floorEnd, ceilStart);
+    }
+
+    /** Copy of this index with one more interval inside the window, e.g. a meeting planned but not yet saved. */
+    public IntervalIndex with(long start, long end) {
+        int at = upperBound(starts, start);
+        long[] newStarts = new long[starts.length + 1];
+        long[] newEnds = new long[ends.length + 1];
+        System.arraycopy(starts, 0, newStarts, 0, at);
+        System.arraycopy(ends, 0, newEnds, 0, at);
+        newStarts[at] = start;
+        newEnds[at] = end;
+        System.arraycopy(starts, at, newStarts, at + 1, starts.length - at);
+        System.arraycopy(ends, at, newEnds, at + 1, ends.length - at);
+        return new IntervalIndex(newStarts, newEnds, floorEnd, ceilStart);
+    }
+
+    /** Copy of this index without one interval with exactly these bounds, e.g. a meeting about to move. */
+    public IntervalIndex without(long start, long end) {
+        for (int i = lowerBound(starts, start); i < starts.length && starts[i] == start; i++) {
+            if (ends[i] == end) {
+                long[] newStarts = new long[starts.length - 1];
+                long[] newEnds = new long[ends.length - 1];
+                System.arraycopy(starts, 0, newStarts, 0, i);
+                System.arraycopy(ends, 0, newEnds, 0, i);
+                System.arraycopy(starts, i + 1, newStarts, i, starts.length - i - 1);
+                System.arraycopy(ends, i + 1, newEnds, i, ends.length - i - 1);
+                return new IntervalIndex(newStarts, newEnds, floorEnd, ceilStart);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Copy of this index with the first {@code n} given intervals added, e.g. expanded recurring events;
+     * the boundaries become the later floor and the earlier ceiling of the two.
+     */
+    public IntervalIndex withAll(long[] moreStarts, long[] moreEnds, int n, long moreFloorEnd, long moreCeilStart) {
+        long[] newStarts = Arrays.copyOf(starts, starts.length + n);
+        long[] newEnds = Arrays.copyOf(ends, ends.length + n);
+        System.arraycopy(moreStarts, 0, newStarts, starts.length, n);
+        System.arraycopy(moreEnds, 0, newEnds, ends.length, n);
+        long newCeilStart = ceilStart == NONE ? moreCeilStart
+                : moreCeilStart == NONE ? ceilStart : Math.min(ceilStart, moreCeilStart);
+        return of(newStarts, newEnds, Math.max(floorEnd, moreFloorEnd), newCeilStart);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    public long startAt(int i) {
+        return starts[i];
+    }
+
+    public long endAt(int i) {
+        return ends[i];
+    }
+
+    // Accessors for the bulk scorer, which walks these arrays with monotone cursors
+    long[] starts() {
+        return starts;
+    }
+
+    long[] sortedEnds() {
+        return sortedEnds;
+    }
+
+    long floorEnd() {
+        return floorEnd;
+    }
+
+    long ceilStart() {
+        return ceilStart;
+    }
+
+    /** True if any interval satisfies {@code intervalStart < end && intervalEnd > start}. */
+    public boolean overlaps(long start, long end) {
+        int candidates = lowerBound(starts, end); // intervals starting before end
+        return candidates > 0 && maxEndPrefix[candidates - 1] > start;
+    }
+
+    /** Latest interval end {@code <= time}, or {@link #NONE}. Valid for times inside the loaded window. */
+    public long maxEndAtOrBefore(long time) {
+        int i = upperBound(sortedEnds, time) - 1;
+        if (i >= 0) {
+            return sortedEnds[i];
+        }
+        return floorEnd != NONE && floorEnd <= time ? floorEnd : NONE;
+    }
+
+    /** Earliest interval start {@code >= time}, or {@link #NONE}. Valid for times inside the loaded window. */
+    public long minStartAtOrAfter(long time) {
+        int i = lowerBound(starts, time);
+        if (i < starts.length) {
+            return starts[i];
+        }
+        return ceilStart != NONE && ceilStart >= time ? ceilStart : NONE;
+    }
+
+    // First index with a[i] >= key
+    static int lowerBound(long[] a, long key) {
+        int lo = 0;
+        int hi = a.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // First index with a[i] > key
+    static int upperBound(long[] a, long key) {
+        int lo = 0;
+        int hi = a.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,60 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/ParallelCandidateSearch.java
+package com.example.smartmeetingscheduler.scheduling;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join evaluation of a candidate array. Each leaf scores its own slice with the {@link SlotScorer}
+ * and the reduction keeps the earlier index on equal scores, so the result is identical to the serial path.
+ */
+public final class ParallelCandidateSearch {
+
+    private static final int MIN_LEAF_SIZE = 256;
+
+    private ParallelCandidateSearch() {
+    }
+
+    /** Scores every candidate into {@code scores} and returns the best index, or -1 if there are none. */
+    public static int bestIndex(ForkJoinPool pool, SlotScorer scorer, long[] candidates, int[] scores) {
+        if (candidates.length == 0) {
+            return -1;
+        }
+        int leafSize = Math.max(MIN_LEAF_SIZE, candidates.length / (pool.getParallelism() * 4));
+        return pool.invoke(new SliceTask(scorer, candidates, scores, 0, candidates.length, leafSize));
+    }
+
+    private static final class SliceTask extends RecursiveTask<Integer> {
+        private final SlotScorer scorer;
+        private final long[] candidates;
+        private final int[] scores;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        SliceTask(SlotScorer scorer, long[] candidates, int[] scores, int from, int to, int leafSize) {
+            this.scorer = scorer;
+            this.candidates = candidates;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= leafSize) {
+                scorer.scoreAll(candidates, from, to, scores);
+                return CandidateScorer.bestIndex(scores, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            SliceTask left = new SliceTask(scorer, candidates, scores, from, mid, leafSize);
+            SliceTask right = new SliceTask(scorer, candidates, scores, mid, to, leafSize);
+            left.fork();
+            int rightBest = right.compute();
+            int leftBest = left.join();
+            // Left slice holds earlier starts, so it wins ties
+            return scores[rightBest] > scores[leftBest] ? rightBest : leftBest;
+        }
+    }
+}
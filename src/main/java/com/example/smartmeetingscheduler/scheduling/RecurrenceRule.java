@@ -0,0 +1,226 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/RecurrenceRule.java
+package com.example.smartmeetingscheduler.scheduling;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+/**
+ * A daily or weekly series stored once and expanded on demand. Occurrences keep their local start time
+ * in the series' zone (so they follow DST), dates listed as exceptions are skipped, and nothing is
+ * materialized outside the window a caller asks for.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency { DAILY, WEEKLY }
+
+    /** Receives occurrences in ascending order. */
+    public interface Sink {
+        void accept(long start, long end);
+    }
+
+    private final long durationMs;
+    private final ZoneId zone;
+    private final Frequency frequency;
+    private final int interval;
+    private final int weekdays;        // bit (ISO day - 1) set for each weekday a weekly series runs on
+    private final long until;          // latest allowed occurrence start, or NONE
+    private final Set<LocalDate> exceptions;
+    private final LocalDate firstDay;
+    private final LocalTime localStart;
+    private final long searchDays;     // any span this long holds an occurrence unless the series ended
+
+    /**
+     * {@code weekdays} is a bitmask of ISO days (bit 0 = Monday) and only applies to weekly series;
+     * 0 means the weekday of the first occurrence. {@code until} may be {@link IntervalIndex#NONE}.
+     */
+    public RecurrenceRule(long firstStart, long durationMs, ZoneId zone, Frequency frequency, int interval,
+                          int weekdays, long until, Set<LocalDate> exceptions) {
+        if (durationMs <= 0 || interval < 1) {
+            throw new IllegalArgumentException("duration and interval must be positive");
+        }
+        this.durationMs = durationMs;
+        this.zone = zone;
+        this.frequency = frequency;
+        this.interval = interval;
+        this.exceptions = Set.copyOf(exceptions);
+        ZonedDateTime first = ZonedDateTime.ofInstant(Instant.ofEpochMilli(firstStart), zone);
+        this.firstDay = first.toLocalDate();
+        this.localStart = first.toLocalTime();
+        this.weekdays = weekdays != 0 ? weekdays : 1 << (firstDay.getDayOfWeek().getValue() - 1);
+        this.until = until;
+        long period = frequency == Frequency.DAILY ? interval : 7L * interval;
+        // Each exception removes at most one occurrence; add the days an occurrence can span
+        this.searchDays = period * (this.exceptions.size() + 1) + durationMs / 86_400_000L + 2;
+    }
+
+    public long durationMs() {
+        return durationMs;
+    }
+
+    /** Occurrences with {@code start < to && end > from}, in ascending order. */
+    public void expand(long from, long to, Sink sink) {
+        for (PrimitiveIterator.OfLong starts = starts(from, to); starts.hasNext(); ) {
+            long start = starts.nextLong();
+            sink.accept(start, start + durationMs);
+        }
+    }
+
+    /**
+     * Starts of the same occurrences as {@link #expand}, computed one at a time as the caller asks for them,
+     * so a caller that stops early never expands the rest of the window.
+     */
+    public PrimitiveIterator.OfLong starts(long from, long to) {
+        return new PrimitiveIterator.OfLong() {
+            private LocalDate day = max(firstDay, localDate(from - durationMs));
+            private final LocalDate lastDay = localDate(to);
+            private long next = advance();
+
+            private long advance() {
+                while (!day.isAfter(lastDay)) {
+                    LocalDate current = day;
+                    day = day.plusDays(1);
+                    if (!runsOn(current)) {
+                        continue;
+                    }
+                    long start = startOn(current);
+                    if (start >= to || pastUntil(start)) {
+                        day = lastDay.plusDays(1);
+                        return IntervalIndex.NONE;
+                    }
+                    if (start + durationMs > from) {
+                        return start;
+                    }
+                }
+                return IntervalIndex.NONE;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != IntervalIndex.NONE;
+            }
+
+            @Override
+            public long nextLong() {
+                if (next == IntervalIndex.NONE) {
+                    throw new NoSuchElementException();
+                }
+                long start = next;
+                next = advance();
+                return start;
+            }
+        };
+    }
+
+    /** Latest occurrence end {@code <= time}, or {@link IntervalIndex#NONE}. */
+    public long lastEndAtOrBefore(long time) {
+        LocalDate day = localDate(time - durationMs);
+        if (until != IntervalIndex.NONE && until < time) {
+            day = min(day, localDate(until));
+        }
+        for (long i = 0; i <= searchDays && !day.isBefore(firstDay); i++, day = day.minusDays(1)) {
+            if (runsOn(day)) {
+                long start = startOn(day);
+                if (start + durationMs <= time && !pastUntil(start)) {
+                    return start + durationMs;
+                }
+            }
+        }
+        return IntervalIndex.NONE;
+    }
+
+    /** Earliest occurrence start {@code >= time}, or {@link IntervalIndex#NONE}. */
+    public long firstStartAtOrAfter(long time) {
+        LocalDate day = max(firstDay, localDate(time).minusDays(1));
+        for (long i = 0; i <= searchDays; i++, day = day.plusDays(1)) {
+            if (runsOn(day)) {
+                long start = startOn(day);
+                if (pastUntil(start)) {
+                    return IntervalIndex.NONE;
+                }
+                if (start >= time) {
+                    return start;
+                }
+            }
+        }
+        return IntervalIndex.NONE;
+    }
+
+    /** True if any occurrence satisfies {@code occurrenceStart < end && occurrenceEnd > start}. */
+    public boolean overlaps(long start, long end) {
+        boolean[] found = new boolean[1];
+        expand(start, end, (s, e) -> found[0] = true);
+        return found[0];
+    }
+
+    /**
+     * Adds the occurrences of {@code rules} in a window to a user's index, as if they had been loaded
+     * with it: intervals overlapping the window plus the boundaries just outside it.
+     */
+    public static IntervalIndex addTo(IntervalIndex index, List<RecurrenceRule> rules, long windowStart, long windowEnd) {
+        if (rules.isEmpty()) {
+            return index;
+        }
+        long[][] buffer = {new long[16], new long[16]};
+        int[] n = new int[1];
+        long floorEnd = IntervalIndex.NONE;
+        long ceilStart = IntervalIndex.NONE;
+        for (RecurrenceRule rule : rules) {
+            rule.expand(windowStart, windowEnd, (start, end) -> {
+                if (n[0] == buffer[0].length) {
+                    buffer[0] = Arrays.copyOf(buffer[0], n[0] * 2);
+                    buffer[1] = Arrays.copyOf(buffer[1], n[0] * 2);
+                }
+                buffer[0][n[0]] = start;
+                buffer[1][n[0]] = end;
+                n[0]++;
+            });
+            floorEnd = Math.max(floorEnd, rule.lastEndAtOrBefore(windowStart));
+            long ceil = rule.firstStartAtOrAfter(windowEnd);
+            if (ceil != IntervalIndex.NONE && (ceilStart == IntervalIndex.NONE || ceil < ceilStart)) {
+                ceilStart = ceil;
+            }
+        }
+        return index.withAll(buffer[0], buffer[1], n[0], floorEnd, ceilStart);
+    }
+
+    private boolean runsOn(LocalDate day) {
+        if (day.isBefore(firstDay) || exceptions.contains(day)) {
+            return false;
+        }
+        long days = ChronoUnit.DAYS.between(firstDay, day);
+        if (frequency == Frequency.DAILY) {
+            return days % interval == 0;
+        }
+        long weeks = Math.floorDiv(days + firstDay.getDayOfWeek().getValue() - 1, 7);
+        return weeks % interval == 0 && (weekdays & (1 << (day.getDayOfWeek().getValue() - 1))) != 0;
+    }
+
+    private boolean pastUntil(long start) {
+        return until != IntervalIndex.NONE && start > until;
+    }
+
+    private long startOn(LocalDate day) {
+        return ZonedDateTime.of(day, localStart, zone).toInstant().toEpochMilli();
+    }
+
+    private LocalDate localDate(long time) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(time), zone).toLocalDate();
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
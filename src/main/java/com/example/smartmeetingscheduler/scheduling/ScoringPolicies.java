@@ -0,0 +1,50 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/ScoringPolicies.java
+package com.example.smartmeetingscheduler.scheduling;
+
+import java.util.Map;
+
+/**
+ * Compiled scoring policies by tenant: the rules and the {@link SlotScorerFactory} that applies them.
+ * Tenants without their own rules or scorer, and requests without a tenant, get the default.
+ */
+public final class ScoringPolicies {
+
+    /** What one request is scored with. */
+    public record Policy(ScoringRules rules, SlotScorerFactory scorers) {
+
+        public SlotScorer scorer(IntervalIndex[] participants, long rangeStart, long durationMs, WorkingHoursMask workingHours) {
+            return scorers.create(participants, rangeStart, durationMs, workingHours, rules);
+        }
+
+        /** True for the built-in scorer, whose per-participant gap terms can be computed and cached apart. */
+        public boolean separable() {
+            return scorers == CandidateScorer.FACTORY;
+        }
+    }
+
+    private final ScoringRules defaults;
+    private final Map<String, ScoringRules> tenants;
+    private final SlotScorerFactory defaultScorers;
+    private final Map<String, SlotScorerFactory> tenantScorers;
+
+    public ScoringPolicies(ScoringRules defaults, Map<String, ScoringRules> tenants) {
+        this(defaults, tenants, CandidateScorer.FACTORY, Map.of());
+    }
+
+    public ScoringPolicies(ScoringRules defaults, Map<String, ScoringRules> tenants,
+                           SlotScorerFactory defaultScorers, Map<String, SlotScorerFactory> tenantScorers) {
+        this.defaults = defaults;
+        this.tenants = Map.copyOf(tenants);
+        this.defaultScorers = defaultScorers;
+        this.tenantScorers = Map.copyOf(tenantScorers);
+    }
+
+    public ScoringRules forTenant(String tenantId) {
+        return tenantId == null ? defaults : tenants.getOrDefault(tenantId, defaults);
+    }
+
+    public Policy policyFor(String tenantId) {
+        SlotScorerFactory scorers = tenantId == null ? defaultScorers : tenantScorers.getOrDefault(tenantId, defaultScorers);
+        return new Policy(forTenant(tenantId), scorers);
+    }
+}
@@ -0,0 +1,145 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/ScoringRules.java
+package com.example.smartmeetingscheduler.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A weighted scoring policy for {@link CandidateScorer}, parsed from a comma-separated rule list and
+ * compiled once into primitive fields and a gap lookup table. Scoring with a custom policy runs the same
+ * code as the default one. Rules:
+ * <ul>
+ *   <li>{@code earliness=P}: P points off per minute after the range start (from 100000), P &ge; 0</li>
+ *   <li>{@code working-hours=P}: P points when the slot is inside every participant's working hours</li>
+ *   <li>{@code gap:A=P}, {@code gap:A-B=P}, {@code gap:A+=P}: P points per participant and side when the gap
+ *   to the neighbouring busy interval is A, A to B, or at least A minutes; overlapping ranges add up</li>
+ * </ul>
+ */
+public final class ScoringRules {
+
+    public static final String DEFAULT_SPEC = "earliness=1,working-hours=500,gap:0=100,gap:1-29=-50,gap:60+=50,gap:15+=25";
+    public static final ScoringRules DEFAULT = parse("default", DEFAULT_SPEC);
+
+    private static final int EARLINESS_BASE = 100000;
+    private static final int MAX_GAP_BOUND = 7 * 1440; // longest finite gap range, in minutes
+
+    private final String name;
+    private final int earlinessPerMinute;
+    private final int workingHoursBonus;
+    private final int[] gapTable;  // points for a gap of i minutes, i < gapTable.length
+    private final int farGapScore; // points for any longer gap: the sum of the open-ended rules
+    private final int maxGapScore; // most one side of one participant can add, at least 0
+
+    private ScoringRules(String name, int earlinessPerMinute, int workingHoursBonus, int[] gapTable, int farGapScore) {
+        this.name = name;
+        this.earlinessPerMinute = earlinessPerMinute;
+        this.workingHoursBonus = workingHoursBonus;
+        this.gapTable = gapTable;
+        this.farGapScore = farGapScore;
+        int max = Math.max(0, farGapScore);
+        for (int points : gapTable) {
+            max = Math.max(max, points);
+        }
+        this.maxGapScore = max;
+    }
+
+    /** Compiles {@code spec}; rules left out score 0. Throws {@link IllegalArgumentException} on a malformed rule. */
+    public static ScoringRules parse(String name, String spec) {
+        int earliness = 0;
+        int workingHours = 0;
+        List<long[]> gapRules = new ArrayList<>(); // {min, max or -1 for open-ended, points}
+        for (String rule : spec.split(",")) {
+            String trimmed = rule.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int eq = trimmed.indexOf('=');
+            if (eq < 0) {
+                throw invalid(name, trimmed);
+            }
+            String key = trimmed.substring(0, eq).trim();
+            int points = parseInt(name, trimmed, trimmed.substring(eq + 1));
+            if (key.equals("earliness")) {
+                if (points < 0) {
+                    throw new IllegalArgumentException("Scoring policy '" + name + "': earliness must not be negative");
+                }
+                earliness = points;
+            } else if (key.equals("working-hours")) {
+                workingHours = points;
+            } else if (key.startsWith("gap:")) {
+                gapRules.add(gapRule(name, trimmed, key.substring(4), points));
+            } else {
+                throw invalid(name, trimmed);
+            }
+        }
+
+        // Past the largest bound every rule is settled: finite ranges are over, open-ended ones apply
+        int length = 1;
+        for (long[] gap : gapRules) {
+            length = (int) Math.max(length, Math.max(gap[0], gap[1]) + 1);
+        }
+        int[] table = new int[length];
+        int far = 0;
+        for (long[] gap : gapRules) {
+            long last = gap[1] < 0 ? length - 1 : gap[1];
+            for (long minutes = gap[0]; minutes <= last; minutes++) {
+                table[(int) minutes] += (int) gap[2];
+            }
+            if (gap[1] < 0) {
+                far += (int) gap[2];
+            }
+        }
+        return new ScoringRules(name, earliness, workingHours, table, far);
+    }
+
+    private static long[] gapRule(String name, String rule, String range, int points) {
+        long min;
+        long max;
+        if (range.endsWith("+")) {
+            min = parseInt(name, rule, range.substring(0, range.length() - 1));
+            max = -1;
+        } else if (range.contains("-")) {
+            min = parseInt(name, rule, range.substring(0, range.indexOf('-')));
+            max = parseInt(name, rule, range.substring(range.indexOf('-') + 1));
+        } else {
+            min = parseInt(name, rule, range);
+            max = min;
+        }
+        if (min < 0 || min > MAX_GAP_BOUND || (max >= 0 && (max < min || max > MAX_GAP_BOUND))) {
+            throw invalid(name, rule);
+        }
+        return new long[]{min, max, points};
+    }
+
+    private static int parseInt(String name, String rule, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw invalid(name, rule);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String name, String rule) {
+        return new IllegalArgumentException("Scoring policy '" + name + "': invalid rule '" + rule + "'");
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int earliness(long minutesFromRangeStart) {
+        return (int) (EARLINESS_BASE - earlinessPerMinute * minutesFromRangeStart);
+    }
+
+    public int workingHoursBonus() {
+        return workingHoursBonus;
+    }
+
+    public int gapScore(long gapMin) {
+        return gapMin < gapTable.length ? gapTable[(int) gapMin] : farGapScore;
+    }
+
+    public int maxGapScore() {
+        return maxGapScore;
+    }
+}
@@ -0,0 +1,34 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/SlotScorer.java
+package com.example.smartmeetingscheduler.scheduling;
+
+/**
+ * Scores candidate slot starts for one request; higher is better. The searches only rely on these
+ * methods, so any policy that can score a sorted batch, bound what later slots can reach and explain
+ * a score plugs in. Scorers are created per request by a {@link SlotScorerFactory}.
+ */
+public interface SlotScorer {
+
+    /**
+     * The score of one slot split by heuristic; {@code total} equals {@link #score}. A scorer without
+     * one of these heuristics reports 0 for it.
+     */
+    record Breakdown(int total, int earliness, int workingHours, int gaps) {
+    }
+
+    /**
+     * Writes the score of {@code starts[i]} into {@code out[i]} for {@code from <= i < to}.
+     * {@code starts} is ascending; slices may be scored concurrently, so this must not mutate shared state.
+     */
+    void scoreAll(long[] starts, int from, int to, int[] out);
+
+    /** Highest score any slot starting at or after {@code start} can reach; must not increase with {@code start}. */
+    int upperBound(long start);
+
+    Breakdown explain(long start);
+
+    default int score(long start) {
+        int[] out = new int[1];
+        scoreAll(new long[]{start}, 0, 1, out);
+        return out[0];
+    }
+}
@@ -0,0 +1,14 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/SlotScorerFactory.java
+package com.example.smartmeetingscheduler.scheduling;
+
+/**
+ * Creates the {@link SlotScorer} for one request from what the services prepare for it: the participants'
+ * calendars, the grid origin and slot length, their working hours and the tenant's compiled rules.
+ * Each tenant's factory is chosen in {@link ScoringPolicies}.
+ */
+@FunctionalInterface
+public interface SlotScorerFactory {
+
+    SlotScorer create(IntervalIndex[] participants, long rangeStart, long durationMs, WorkingHoursMask workingHours,
+                      ScoringRules rules);
+}
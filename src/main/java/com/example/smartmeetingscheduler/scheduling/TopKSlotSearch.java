@@ -0,0 +1,95 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/TopKSlotSearch.java
+package com.example.smartmeetingscheduler.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * Finds the K best candidates without scoring all of them. Candidates are scored in ascending chunks
+ * into a bounded heap; once the heap is full and {@link SlotScorer#upperBound} of the next chunk
+ * cannot beat its worst entry, the remaining candidates are skipped.
+ */
+public final class TopKSlotSearch {
+
+    private static final int CHUNK_SIZE = 256;
+
+    /** Candidate indexes best first (ties go to the earlier candidate), and how many were scored. */
+    public record Result(int[] best, int scored) {
+    }
+
+    private TopKSlotSearch() {
+    }
+
+    public static Result topK(SlotScorer scorer, long[] candidates, int k) {
+        if (k <= 0) {
+            return new Result(new int[0], 0);
+        }
+        int[] scores = new int[candidates.length];
+        int[] heap = new int[k]; // candidate indexes, worst at the root
+        int size = 0;
+        int scored = 0;
+        for (int from = 0; from < candidates.length; from += CHUNK_SIZE) {
+            // Later candidates never win a tie, so equal to the worst kept score is not enough
+            if (size == k && scorer.upperBound(candidates[from]) <= scores[heap[0]]) {
+                break;
+            }
+            int to = Math.min(candidates.length, from + CHUNK_SIZE);
+            scorer.scoreAll(candidates, from, to, scores);
+            scored += to - from;
+            for (int i = from; i < to; i++) {
+                if (size < k) {
+                    heap[size] = i;
+                    siftUp(heap, size++, scores);
+                } else if (worse(heap[0], i, scores)) {
+                    heap[0] = i;
+                    siftDown(heap, size, scores);
+                }
+            }
+        }
+
+        Integer[] best = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            best[i] = heap[i];
+        }
+        Arrays.sort(best, (a, b) -> worse(a, b, scores) ? 1 : worse(b, a, scores) ? -1 : 0);
+        return new Result(Arrays.stream(best).mapToInt(Integer::intValue).toArray(), scored);
+    }
+
+    // a ranks below b: lower score, or the same score and later
+    private static boolean worse(int a, int b, int[] scores) {
+        return scores[a] < scores[b] || (scores[a] == scores[b] && a > b);
+    }
+
+    private static void siftUp(int[] heap, int i, int[] scores) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(heap[i], heap[parent], scores)) {
+                return;
+            }
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, int[] scores) {
+        int i = 0;
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int worst = right < size && worse(heap[right], heap[left], scores) ? right : left;
+            if (!worse(heap[worst], heap[i], scores)) {
+                return;
+            }
+            swap(heap, i, worst);
+            i = worst;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+}
@@ -0,0 +1,127 @@
+// src/main/java/com/example/smartmeetingscheduler/scheduling/WorkingHoursMask.java
+package com.example.smartmeetingscheduler.scheduling;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+/**
+ * Which candidate slots of one request lie inside every participant's working hours. Each participant's
+ * local workdays are resolved once (DST included) into a bitset over the candidate grid, and the
+ * participants are combined with a word-wise AND, so checking a slot is a single bit test.
+ */
+public final class WorkingHoursMask {
+
+    /** Local working hours; {@code end} before {@code start} means the shift runs past midnight. */
+    public record Profile(ZoneId zone, LocalTime start, LocalTime end) {
+        public static final Profile DEFAULT = new Profile(ZoneOffset.UTC, LocalTime.of(9, 0), LocalTime.of(17, 0));
+    }
+
+    private final Profile[] profiles;
+    private final long durationMs;
+    private final long gridStart;
+    private final long stepMs;
+    private final int gridSize;
+    private final long[] bits; // bit j: the slot starting at gridStart + j * stepMs is inside everyone's hours
+
+    private WorkingHoursMask(Profile[] profiles, long durationMs, long gridStart, long stepMs, int gridSize, long[] bits) {
+        this.profiles = profiles;
+        this.durationMs = durationMs;
+        this.gridStart = gridStart;
+        this.stepMs = stepMs;
+        this.gridSize = gridSize;
+        this.bits = bits;
+    }
+
+    /** Evaluates every slot on demand; for callers without a candidate grid. */
+    public static WorkingHoursMask direct(Profile[] profiles, long durationMs) {
+        return new WorkingHoursMask(profiles, durationMs, 0, 1, 0, new long[0]);
+    }
+
+    public static WorkingHoursMask build(Profile[] profiles, long rangeStart, long rangeEnd, long durationMs, long stepMs) {
+        int gridSize = (int) Math.max(0, Math.floorDiv(rangeEnd - rangeStart, stepMs) + 1);
+        int words = (gridSize + 63) >>> 6;
+        long[] bits = new long[words];
+        Arrays.fill(bits, -1L);
+        long[] participant = new long[words];
+        for (Profile profile : profiles) {
+            Arrays.fill(participant, 0L);
+            // Start a day early so a shift running past midnight into the range is included
+            LocalDate day = ZonedDateTime.ofInstant(Instant.ofEpochMilli(rangeStart), profile.zone()).toLocalDate().minusDays(1);
+            while (true) {
+                long[] window = window(profile, day);
+                if (window[0] >= rangeEnd) {
+                    break;
+                }
+                long first = Math.max(0, ceilDiv(window[0] - rangeStart, stepMs));
+                long last = Math.min(gridSize - 1L, Math.floorDiv(window[1] - durationMs - rangeStart, stepMs));
+                if (first <= last) {
+                    setRange(participant, (int) first, (int) last);
+                }
+                day = day.plusDays(1);
+            }
+            for (int w = 0; w < words; w++) {
+                bits[w] &= participant[w];
+            }
+        }
+        return new WorkingHoursMask(profiles, durationMs, rangeStart, stepMs, gridSize, bits);
+    }
+
+    /** True if {@code [slotStart, slotStart + duration]} is inside the working hours of every participant. */
+    public boolean allWorking(long slotStart) {
+        long offset = slotStart - gridStart;
+        if (offset >= 0 && offset % stepMs == 0 && offset / stepMs < gridSize) {
+            int j = (int) (offset / stepMs);
+            return (bits[j >>> 6] & (1L << j)) != 0;
+        }
+        for (Profile profile : profiles) {
+            if (!working(profile, slotStart, slotStart + durationMs)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean working(Profile profile, long start, long end) {
+        LocalDate day = ZonedDateTime.ofInstant(Instant.ofEpochMilli(start), profile.zone()).toLocalDate();
+        for (LocalDate d = day.minusDays(1); !d.isAfter(day); d = d.plusDays(1)) {
+            long[] window = window(profile, d);
+            if (start >= window[0] && end <= window[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Working window starting on the given local date, as epoch millis
+    private static long[] window(Profile profile, LocalDate day) {
+        ZonedDateTime start = ZonedDateTime.of(day, profile.start(), profile.zone());
+        LocalDate endDay = profile.end().isAfter(profile.start()) ? day : day.plusDays(1);
+        ZonedDateTime end = ZonedDateTime.of(endDay, profile.end(), profile.zone());
+        return new long[]{start.toInstant().toEpochMilli(), end.toInstant().toEpochMilli()};
+    }
+
+    private static long ceilDiv(long a, long b) {
+        return -Math.floorDiv(-a, b);
+    }
+
+    private static void setRange(long[] words, int from, int to) {
+        int firstWord = from >>> 6;
+        int lastWord = to >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - (to & 63));
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            words[w] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+}
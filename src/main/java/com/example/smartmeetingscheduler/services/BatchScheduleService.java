@@ -0,0 +1,332 @@
+// src/main/java/com/example/smartmeetingscheduler/services/BatchScheduleService.java
+package com.example.smartmeetingscheduler.services;
+
+import com.example.smartmeetingscheduler.dto.BatchItemResult;
+import com.example.smartmeetingscheduler.dto.BatchScheduleRequest;
+import com.example.smartmeetingscheduler.dto.BatchScheduleResponse;
+import com.example.smartmeetingscheduler.dto.MeetingResponse;
+import com.example.smartmeetingscheduler.dto.ScheduleRequest;
+import com.example.smartmeetingscheduler.entities.Event;
+import com.example.smartmeetingscheduler.entities.Meeting;
+import com.example.smartmeetingscheduler.entities.User;
+import com.example.smartmeetingscheduler.repositories.EventRepository;
+import com.example.smartmeetingscheduler.repositories.MeetingRepository;
+import com.example.smartmeetingscheduler.repositories.UserRepository;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.ScoringPolicies;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Plans and books many meetings in one request. Single meetings are booked by {@link EventService}.
+ */
+@Service
+public class BatchScheduleService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private BusyIntervalLoader busyIntervalLoader;
+
+    @Autowired
+    private ParticipantLocks participantLocks;
+
+    @Autowired
+    private PartitionRouter partitionRouter;
+
+    @Autowired
+    private ScoringPolicies scoringPolicies;
+
+    @Autowired
+    private SchedulerMetrics schedulerMetrics;
+
+    @Autowired
+    private SlotSearch slotSearch;
+
+    @Value("${scheduler.booking.attempts:3}")
+    private int bookingAttempts;
+
+    // A validated batch item, in request order
+    private record BatchItem(int index, List<String> participantIds, Instant rangeStart, Instant rangeEnd,
+                             long durationMin, int priority, ScoringPolicies.Policy policy) {
+    }
+
+    private record PlannedMeeting(BatchItem item, String meetingId, Instant start, Instant end) {
+    }
+
+    // Items' own ranges merged where they overlap or touch, with the participants of the items inside
+    private record LoadWindow(Instant start, Instant end, Set<String> participantIds) {
+    }
+
+    /**
+     * Places many meetings against one load of the participants' calendars. The load covers the items' own
+     * ranges, merged where they overlap, not the span from the earliest to the latest. Each placement becomes
+     * busy time for the ones after it. The planned meetings commit in one transaction per partition, in
+     * partition order; if a later partition conflicts or fails, the ones already committed are deleted again,
+     * so readers may briefly see part of the batch. Invalid or unplaceable items fail on their own; the rest still books.
+     */
+    @Async("taskExecutor")
+    public CompletableFuture<BatchScheduleResponse> scheduleBatch(BatchScheduleRequest batch) {
+        List<ScheduleRequest> requests = batch.getRequests();
+        Set<String> allParticipantIds = new LinkedHashSet<>();
+        for (ScheduleRequest request : requests) {
+            allParticipantIds.addAll(request.getParticipantIds());
+        }
+        Map<String, User> usersById = new HashMap<>();
+        for (User user : findUsers(allParticipantIds)) {
+            usersById.put(user.getId(), user);
+        }
+
+        // Validate each item the same way as a single request
+        BatchItemResult[] validation = new BatchItemResult[requests.size()];
+        List<BatchItem> items = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ScheduleRequest request = requests.get(i);
+            Instant rangeStart;
+            Instant rangeEnd;
+            try {
+                rangeStart = Instant.parse(request.getTimeRange().getStart());
+                rangeEnd = Instant.parse(request.getTimeRange().getEnd());
+            } catch (Exception e) {
+                validation[i] = failedItem(i, "Invalid time format in timeRange");
+                continue;
+            }
+            List<String> participantIds = request.getParticipantIds();
+            if (participantIds.stream().distinct().count() != participantIds.size()
+                    || !usersById.keySet().containsAll(participantIds)) {
+                validation[i] = failedItem(i, "One or more users not found");
+                continue;
+            }
+            long durationMin = request.getDurationMinutes();
+            if (rangeStart.isAfter(rangeEnd) || Duration.between(rangeStart, rangeEnd).toMinutes() < durationMin) {
+                validation[i] = failedItem(i, "Invalid time range or duration");
+                continue;
+            }
+            int priority = request.getPriority() == null ? 0 : request.getPriority();
+            items.add(new BatchItem(i, participantIds, rangeStart, rangeEnd, durationMin, priority,
+                    scoringPolicies.policyFor(request.getTenantId())));
+        }
+        if (items.isEmpty()) {
+            return CompletableFuture.completedFuture(batchResponse(validation));
+        }
+        List<LoadWindow> windows = loadWindows(items);
+        Map<BatchItem, Integer> windowOf = new HashMap<>();
+        for (BatchItem item : items) {
+            for (int w = 0; w < windows.size(); w++) {
+                if (!item.rangeStart().isBefore(windows.get(w).start()) && !item.rangeEnd().isAfter(windows.get(w).end())) {
+                    windowOf.put(item, w);
+                    break;
+                }
+            }
+        }
+
+        // Plan against one load per window, then re-validate everything at commit time.
+        // If another booking got in between, plan the whole batch again on fresh data.
+        for (int attempt = 0; attempt < bookingAttempts; attempt++) {
+            Timer.Sample phase = Timer.start();
+            List<Map<String, IntervalIndex>> calendars = new ArrayList<>(windows.size());
+            for (LoadWindow window : windows) {
+                calendars.add(new HashMap<>(busyIntervalLoader.load(window.participantIds(), window.start(), window.end())));
+            }
+            schedulerMetrics.stop(phase, SchedulerMetrics.Phase.LOAD);
+
+            BatchItemResult[] results = validation.clone();
+            List<PlannedMeeting> planned = new ArrayList<>();
+            for (BatchItem item : placementOrder(items, batch.getOrder(), each -> calendars.get(windowOf.get(each)))) {
+                Map<String, IntervalIndex> calendar = calendars.get(windowOf.get(item));
+                IntervalIndex[] participantIndexes = SlotSearch.participantIndexes(item.participantIds(), calendar);
+                Instant slotStart = slotSearch.bestSlot(participantIndexes, SlotSearch.profiles(item.participantIds(), usersById),
+                        item.rangeStart(), item.rangeEnd(), item.durationMin(), item.policy());
+                if (slotStart == null) {
+                    results[item.index()] = failedItem(item.index(), "No available time slot found for all participants.");
+                    continue;
+                }
+                Instant slotEnd = slotStart.plus(Duration.ofMinutes(item.durationMin()));
+                for (String userId : item.participantIds()) {
+                    calendar.put(userId, calendar.get(userId).with(slotStart.toEpochMilli(), slotEnd.toEpochMilli()));
+                }
+                planned.add(new PlannedMeeting(item, "meeting-" + UUID.randomUUID(), slotStart, slotEnd));
+            }
+            if (planned.isEmpty()) {
+                return CompletableFuture.completedFuture(batchResponse(results));
+            }
+
+            Set<String> plannedParticipantIds = new LinkedHashSet<>();
+            for (PlannedMeeting meeting : planned) {
+                plannedParticipantIds.addAll(meeting.item().participantIds());
+            }
+            Map<Integer, List<String>> byPartition = partitionRouter.group(plannedParticipantIds);
+            List<String> plannedMeetingIds = planned.stream().map(PlannedMeeting::meetingId).toList();
+            phase = Timer.start();
+            try (ParticipantLocks.Lease lease = participantLocks.lockAll(plannedParticipantIds)) {
+                boolean booked = partitionRouter.commitAcross(byPartition.keySet(), partition -> {
+                    // One read of the committed calendars per window instead of one overlap query per meeting
+                    Set<String> localIds = new HashSet<>(byPartition.get(partition));
+                    List<Map<String, IntervalIndex>> committed = new ArrayList<>(windows.size());
+                    for (LoadWindow window : windows) {
+                        Set<String> windowIds = new HashSet<>(window.participantIds());
+                        windowIds.retainAll(localIds);
+                        committed.add(windowIds.isEmpty() ? Map.of()
+                                : busyIntervalLoader.loadFromDatabase(windowIds, window.start(), window.end()));
+                    }
+                    for (PlannedMeeting meeting : planned) {
+                        for (String userId : meeting.item().participantIds()) {
+                            if (localIds.contains(userId) && committed.get(windowOf.get(meeting.item())).get(userId)
+                                    .overlaps(meeting.start().toEpochMilli(), meeting.end().toEpochMilli())) {
+                                return false;
+                            }
+                        }
+                    }
+                    List<Meeting> meetings = new ArrayList<>(planned.size());
+                    List<Event> newEvents = new ArrayList<>();
+                    for (PlannedMeeting planItem : planned) {
+                        Meeting meeting = null;
+                        for (String userId : planItem.item().participantIds()) {
+                            if (!localIds.contains(userId)) {
+                                continue;
+                            }
+                            if (meeting == null) {
+                                meeting = new Meeting(planItem.meetingId(), "New Meeting", planItem.start(), planItem.end(),
+                                        planItem.item().rangeStart(), planItem.item().rangeEnd());
+                                meetings.add(meeting);
+                            }
+                            newEvents.add(new Event("New Meeting", planItem.start(), planItem.end(), usersById.get(userId), meeting));
+                        }
+                    }
+                    meetingRepository.saveAll(meetings);
+                    eventRepository.saveAll(newEvents);
+                    return true;
+                }, partition -> deleteMeetings(plannedMeetingIds));
+                if (booked) {
+                    for (PlannedMeeting meeting : planned) {
+                        results[meeting.item().index()] = scheduledItem(meeting);
+                    }
+                    return CompletableFuture.completedFuture(batchResponse(results));
+                }
+            } finally {
+                schedulerMetrics.stop(phase, SchedulerMetrics.Phase.PERSIST);
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT, "Calendars changed during batch scheduling, please retry.");
+    }
+
+    private List<BatchItem> placementOrder(List<BatchItem> items, BatchScheduleRequest.Order order,
+                                           Function<BatchItem, Map<String, IntervalIndex>> calendarOf) {
+        List<BatchItem> ordered = new ArrayList<>(items);
+        if (order == BatchScheduleRequest.Order.PRIORITY) {
+            ordered.sort(Comparator.comparingInt(BatchItem::priority).reversed());
+        } else if (order == BatchScheduleRequest.Order.TIGHTEST_FIRST) {
+            // Fewest free slots before anything is placed; the sort is stable, so ties keep request order
+            Map<BatchItem, Integer> freeSlots = new HashMap<>();
+            for (BatchItem item : items) {
+                freeSlots.put(item, slotSearch.candidateStarts(SlotSearch.participantIndexes(item.participantIds(), calendarOf.apply(item)),
+                        item.rangeStart(), item.rangeEnd(), item.durationMin()).length);
+            }
+            ordered.sort(Comparator.comparingInt(freeSlots::get));
+        }
+        return ordered;
+    }
+
+    private static List<LoadWindow> loadWindows(List<BatchItem> items) {
+        List<BatchItem> byStart = new ArrayList<>(items);
+        byStart.sort(Comparator.comparing(BatchItem::rangeStart));
+        List<LoadWindow> windows = new ArrayList<>();
+        Instant start = null;
+        Instant end = null;
+        Set<String> participantIds = null;
+        for (BatchItem item : byStart) {
+            if (end != null && !item.rangeStart().isAfter(end)) {
+                end = item.rangeEnd().isAfter(end) ? item.rangeEnd() : end;
+                participantIds.addAll(item.participantIds());
+                continue;
+            }
+            if (end != null) {
+                windows.add(new LoadWindow(start, end, participantIds));
+            }
+            start = item.rangeStart();
+            end = item.rangeEnd();
+            participantIds = new LinkedHashSet<>(item.participantIds());
+        }
+        windows.add(new LoadWindow(start, end, participantIds));
+        return windows;
+    }
+
+    // Users live in their own partitions: one lookup per partition, in parallel
+    private List<User> findUsers(Collection<String> userIds) {
+        List<User> users = new ArrayList<>();
+        for (List<User> found : partitionRouter.scatter(userIds, userRepository::findByIdIn)) {
+            users.addAll(found);
+        }
+        return users;
+    }
+
+    // Undoes the batch on the current partition: its events and its copy of each meeting
+    private void deleteMeetings(List<String> meetingIds) {
+        for (String meetingId : meetingIds) {
+            eventRepository.deleteAll(eventRepository.findByMeetingId(meetingId));
+            meetingRepository.findById(meetingId).ifPresent(meetingRepository::delete);
+        }
+    }
+
+    private static BatchItemResult failedItem(int index, String error) {
+        BatchItemResult result = new BatchItemResult();
+        result.setIndex(index);
+        result.setStatus(BatchItemResult.Status.FAILED);
+        result.setError(error);
+        return result;
+    }
+
+    private static BatchItemResult scheduledItem(PlannedMeeting planned) {
+        MeetingResponse meeting = new MeetingResponse();
+        meeting.setMeetingId(planned.meetingId());
+        meeting.setParticipantIds(planned.item().participantIds());
+        meeting.setStartTime(planned.start().toString());
+        meeting.setEndTime(planned.end().toString());
+        BatchItemResult result = new BatchItemResult();
+        result.setIndex(planned.item().index());
+        result.setStatus(BatchItemResult.Status.SCHEDULED);
+        result.setMeeting(meeting);
+        return result;
+    }
+
+    private static BatchScheduleResponse batchResponse(BatchItemResult[] results) {
+        BatchScheduleResponse response = new BatchScheduleResponse();
+        response.setResults(Arrays.asList(results));
+        for (BatchItemResult result : results) {
+            if (result.getStatus() == BatchItemResult.Status.SCHEDULED) {
+                response.setScheduled(response.getScheduled() + 1);
+            } else {
+                response.setFailed(response.getFailed() + 1);
+            }
+        }
+        return response;
+    }
+}
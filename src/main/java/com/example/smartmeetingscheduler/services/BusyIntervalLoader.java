@@ -0,0 +1,276 @@
+// src/main/java/com/example/smartmeetingscheduler/services/BusyIntervalLoader.java
+package com.example.smartmeetingscheduler.services;
+
+import com.example.smartmeetingscheduler.dto.BusyInterval;
+import com.example.smartmeetingscheduler.dto.UserBoundary;
+import com.example.smartmeetingscheduler.entities.RecurringEvent;
+import com.example.smartmeetingscheduler.repositories.EventRepository;
+import com.example.smartmeetingscheduler.repositories.RecurringEventRepository;
+import com.example.smartmeetingscheduler.scheduling.FreeBusyCache;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.RecurrenceRule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Loads the busy intervals of a group of users for a window with three queries in total,
+ * no matter how many users there are: one ordered projection scan and two grouped boundary lookups.
+ * With the free/busy cache enabled, only users whose buckets are not cached reach the database.
+ * Recurring series are read with one more query and expanded into the window in memory.
+ * With partitioned storage, each partition holding some of the users is queried in parallel.
+ */
+@Component
+public class BusyIntervalLoader {
+
+    private static final long[] NO_TIMES = new long[0];
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RecurringEventRepository recurringEventRepository;
+
+    @Autowired
+    private FreeBusyCache freeBusyCache;
+
+    @Autowired
+    private PartitionRouter partitionRouter;
+
+    @Value("${scheduler.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BusyIntervalLoader(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public Map<String, IntervalIndex> load(Collection<String> userIds, Instant start, Instant end) {
+        return merge(partitionRouter.scatter(userIds, ids -> cacheEnabled
+                ? loadThroughCache(ids, start, end) : loadFromPartition(ids, start, end)));
+    }
+
+    private Map<String, IntervalIndex> loadThroughCache(Collection<String> userIds, Instant start, Instant end) {
+        long windowStart = start.toEpochMilli();
+        long windowEnd = end.toEpochMilli();
+        long first = freeBusyCache.bucketOf(windowStart);
+        long last = freeBusyCache.bucketOf(windowEnd);
+
+        Map<String, FreeBusyCache.Bucket[]> windows = new HashMap<>();
+        Map<String, Long> generations = new HashMap<>();
+        for (String userId : userIds) {
+            FreeBusyCache.Bucket[] cached = freeBusyCache.get(userId, first, last);
+            if (cached != null) {
+                windows.put(userId, cached);
+            } else {
+                // Taken before the load, so a write that lands meanwhile makes the put a no-op
+                generations.put(userId, freeBusyCache.generation(userId));
+            }
+        }
+
+        return readOnlyTransaction.execute(status -> {
+            if (!generations.isEmpty()) {
+                loadBuckets(generations, first, last, windows);
+            }
+
+            Map<String, Long> floorEnds = new HashMap<>();
+            Map<String, Long> ceilStarts = new HashMap<>();
+            List<String> floorMissing = new ArrayList<>();
+            List<String> ceilMissing = new ArrayList<>();
+            for (String userId : userIds) {
+                FreeBusyCache.Bucket[] window = windows.get(userId);
+                long floorEnd = FreeBusyCache.floorEndIn(window[0], windowStart);
+                if (floorEnd != IntervalIndex.NONE) {
+                    floorEnds.put(userId, floorEnd);
+                } else {
+                    floorMissing.add(userId);
+                }
+                long ceilStart = FreeBusyCache.ceilStartIn(window[window.length - 1], windowEnd);
+                if (ceilStart != IntervalIndex.NONE) {
+                    ceilStarts.put(userId, ceilStart);
+                } else {
+                    ceilMissing.add(userId);
+                }
+            }
+            // Boundaries outside the window's buckets still need the grouped lookups
+            if (!floorMissing.isEmpty()) {
+                for (UserBoundary boundary : eventRepository.findMaxEndBeforeForUsers(floorMissing, start)) {
+                    floorEnds.put(boundary.userId(), boundary.time().toEpochMilli());
+                }
+            }
+            if (!ceilMissing.isEmpty()) {
+                for (UserBoundary boundary : eventRepository.findMinStartAfterForUsers(ceilMissing, end)) {
+                    ceilStarts.put(boundary.userId(), boundary.time().toEpochMilli());
+                }
+            }
+
+            Map<String, List<RecurrenceRule>> series = seriesByUser(userIds);
+            Map<String, IntervalIndex> indexes = new HashMap<>();
+            for (String userId : userIds) {
+                IntervalIndex events = freeBusyCache.assemble(windows.get(userId), first, windowStart, windowEnd,
+                        floorEnds.getOrDefault(userId, IntervalIndex.NONE),
+                        ceilStarts.getOrDefault(userId, IntervalIndex.NONE));
+                indexes.put(userId, RecurrenceRule.addTo(events, series.getOrDefault(userId, List.of()), windowStart, windowEnd));
+            }
+            return indexes;
+        });
+    }
+
+    // One scan over the whole bucket span for every user that missed the cache
+    private void loadBuckets(Map<String, Long> generations, long first, long last,
+                             Map<String, FreeBusyCache.Bucket[]> windows) {
+        Instant spanStart = Instant.ofEpochMilli(freeBusyCache.bucketStart(first) - 1);
+        Instant spanEnd = Instant.ofEpochMilli(freeBusyCache.bucketStart(last + 1));
+        try (Stream<BusyInterval> rows = eventRepository.streamBusyIntervals(generations.keySet(), spanStart, spanEnd)) {
+            Iterator<BusyInterval> it = rows.iterator();
+            String currentUser = null;
+            long[] starts = new long[16];
+            long[] ends = new long[16];
+            int n = 0;
+            while (it.hasNext()) {
+                BusyInterval row = it.next();
+                if (!row.userId().equals(currentUser)) {
+                    if (currentUser != null) {
+                        windows.put(currentUser, cacheBuckets(currentUser, generations, first, last, starts, ends, n));
+                    }
+                    currentUser = row.userId();
+                    n = 0;
+                }
+                if (n == starts.length) {
+                    starts = Arrays.copyOf(starts, n * 2);
+                    ends = Arrays.copyOf(ends, n * 2);
+                }
+                starts[n] = row.startEpoch();
+                ends[n] = row.endEpoch();
+                n++;
+            }
+            if (currentUser != null) {
+                windows.put(currentUser, cacheBuckets(currentUser, generations, first, last, starts, ends, n));
+            }
+        }
+        for (String userId : generations.keySet()) {
+            windows.computeIfAbsent(userId, id -> cacheBuckets(id, generations, first, last, NO_TIMES, NO_TIMES, 0));
+        }
+    }
+
+    private FreeBusyCache.Bucket[] cacheBuckets(String userId, Map<String, Long> generations, long first, long last,
+                                                long[] starts, long[] ends, int n) {
+        FreeBusyCache.Bucket[] buckets = freeBusyCache.split(first, last, starts, ends, n);
+        freeBusyCache.put(userId, generations.get(userId), first, buckets);
+        return buckets;
+    }
+
+    /**
+     * Bypasses the cache. Inside a transaction this reads what that transaction sees, e.g. for commit-time checks;
+     * with partitioned storage, that holds for users of the transaction's own partition.
+     */
+    public Map<String, IntervalIndex> loadFromDatabase(Collection<String> userIds, Instant start, Instant end) {
+        return merge(partitionRouter.scatter(userIds, ids -> loadFromPartition(ids, start, end)));
+    }
+
+    private Map<String, IntervalIndex> loadFromPartition(Collection<String> userIds, Instant start, Instant end) {
+        return readOnlyTransaction.execute(status -> {
+            Map<String, Long> floorEnds = new HashMap<>();
+            for (UserBoundary boundary : eventRepository.findMaxEndBeforeForUsers(userIds, start)) {
+                floorEnds.put(boundary.userId(), boundary.time().toEpochMilli());
+            }
+            Map<String, Long> ceilStarts = new HashMap<>();
+            for (UserBoundary boundary : eventRepository.findMinStartAfterForUsers(userIds, end)) {
+                ceilStarts.put(boundary.userId(), boundary.time().toEpochMilli());
+            }
+
+            Map<String, IntervalIndex> indexes = new HashMap<>();
+            try (Stream<BusyInterval> rows = eventRepository.streamBusyIntervals(userIds, start, end)) {
+                // Rows arrive grouped by user and sorted by start; flush one index per user
+                Iterator<BusyInterval> it = rows.iterator();
+                String currentUser = null;
+                long[] starts = new long[16];
+                long[] ends = new long[16];
+                int n = 0;
+                while (it.hasNext()) {
+                    BusyInterval row = it.next();
+                    if (!row.userId().equals(currentUser)) {
+                        if (currentUser != null) {
+                            indexes.put(currentUser, index(currentUser, starts, ends, n, floorEnds, ceilStarts));
+                        }
+                        currentUser = row.userId();
+                        n = 0;
+                    }
+                    if (n == starts.length) {
+                        starts = Arrays.copyOf(starts, n * 2);
+                        ends = Arrays.copyOf(ends, n * 2);
+                    }
+                    starts[n] = row.startEpoch();
+                    ends[n] = row.endEpoch();
+                    n++;
+                }
+                if (currentUser != null) {
+                    indexes.put(currentUser, index(currentUser, starts, ends, n, floorEnds, ceilStarts));
+                }
+            }
+
+            // Users without events in the window still carry their boundaries
+            Map<String, List<RecurrenceRule>> series = seriesByUser(userIds);
+            for (String userId : userIds) {
+                IntervalIndex events = indexes.computeIfAbsent(userId, id -> index(id, NO_TIMES, NO_TIMES, 0, floorEnds, ceilStarts));
+                indexes.put(userId, RecurrenceRule.addTo(events, series.getOrDefault(userId, List.of()),
+                        start.toEpochMilli(), end.toEpochMilli()));
+            }
+            return indexes;
+        });
+    }
+
+    /** True if an occurrence of any of the users' recurring series overlaps {@code [start, end)}. */
+    public boolean seriesOverlap(Collection<String> userIds, Instant start, Instant end) {
+        return partitionRouter.scatter(userIds, ids -> {
+            for (List<RecurrenceRule> rules : seriesByUser(ids).values()) {
+                for (RecurrenceRule rule : rules) {
+                    if (rule.overlaps(start.toEpochMilli(), end.toEpochMilli())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }).contains(true);
+    }
+
+    private static Map<String, IntervalIndex> merge(List<Map<String, IntervalIndex>> partitions) {
+        if (partitions.size() == 1) {
+            return partitions.get(0);
+        }
+        Map<String, IntervalIndex> indexes = new HashMap<>();
+        for (Map<String, IntervalIndex> partition : partitions) {
+            indexes.putAll(partition);
+        }
+        return indexes;
+    }
+
+    private Map<String, List<RecurrenceRule>> seriesByUser(Collection<String> userIds) {
+        Map<String, List<RecurrenceRule>> series = new HashMap<>();
+        for (RecurringEvent event : recurringEventRepository.findByUserIds(userIds)) {
+            series.computeIfAbsent(event.getUser().getId(), id -> new ArrayList<>()).add(event.toRule());
+        }
+        return series;
+    }
+
+    private static IntervalIndex index(String userId, long[] starts, long[] ends, int n,
+                                       Map<String, Long> floorEnds, Map<String, Long> ceilStarts) {
+        return IntervalIndex.of(Arrays.copyOf(starts, n), Arrays.copyOf(ends, n),
+                floorEnds.getOrDefault(userId, IntervalIndex.NONE),
+                ceilStarts.getOrDefault(userId, IntervalIndex.NONE));
+    }
+}
@@ -1,25 +1,53 @@
 // src/main/java/com/example/smartmeetingscheduler/services/EventService.java
 package com.example.smartmeetingscheduler.services;
 
+import com.example.smartmeetingscheduler.config.QueryCounter;
 import com.example.smartmeetingscheduler.dto.EventDto;
+import com.example.smartmeetingscheduler.dto.EventProjection;
 import com.example.smartmeetingscheduler.dto.MeetingResponse;
 import com.example.smartmeetingscheduler.dto.ScheduleRequest;
+import com.example.smartmeetingscheduler.dto.SlotSuggestion;
 import com.example.smartmeetingscheduler.entities.Event;
+import com.example.smartmeetingscheduler.entities.Meeting;
+import com.example.smartmeetingscheduler.entities.RecurringEvent;
 import com.example.smartmeetingscheduler.entities.User;
 import com.example.smartmeetingscheduler.repositories.EventRepository;
+import com.example.smartmeetingscheduler.repositories.MeetingRepository;
+import com.example.smartmeetingscheduler.repositories.RecurringEventRepository;
 import com.example.smartmeetingscheduler.repositories.UserRepository;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.RecurrenceRule;
+import com.example.smartmeetingscheduler.scheduling.ScoringPolicies;
+import com.example.smartmeetingscheduler.scheduling.SlotScorer;
+import com.example.smartmeetingscheduler.scheduling.TopKSlotSearch;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.PriorityQueue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class EventService {
@@ -30,9 +58,152 @@ public class EventService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RecurringEventRepository recurringEventRepository;
+
+    @Autowired
+    private BusyIntervalLoader busyIntervalLoader;
+
+    @Autowired
+    private ParticipantLocks participantLocks;
+
+    @Autowired
+    private PartitionRouter partitionRouter;
+
+    @Autowired
+    private ScoringPolicies scoringPolicies;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SchedulerMetrics schedulerMetrics;
+
+    @Autowired
+    private SlotSearch slotSearch;
+
+    @Value("${scheduler.booking.attempts:3}")
+    private int bookingAttempts;
+
+    private static final int MAX_SUGGESTIONS = 50;
+
+    // Calendar rows by start, then id; recurring occurrences carry the negated series id
+    private static final Comparator<EventProjection> CALENDAR_ORDER =
+            Comparator.comparing(EventProjection::startTime).thenComparing(EventProjection::id);
+
     @Async("taskExecutor")
-    @Transactional
     public CompletableFuture<MeetingResponse> scheduleMeeting(ScheduleRequest request) {
+        long queriesBefore = QueryCounter.current();
+        try {
+            return CompletableFuture.completedFuture(bookMeeting(request));
+        } finally {
+            schedulerMetrics.recordQueries(QueryCounter.current() - queriesBefore);
+        }
+    }
+
+    private MeetingResponse bookMeeting(ScheduleRequest request) {
+        Timer.Sample phase = Timer.start();
+        ValidatedRequest valid = validate(request);
+        schedulerMetrics.stop(phase, SchedulerMetrics.Phase.VALIDATION);
+        List<String> participantIds = valid.participantIds();
+        Instant rangeStart = valid.rangeStart();
+        Instant rangeEnd = valid.rangeEnd();
+        long durationMin = valid.durationMin();
+        Map<String, User> usersById = valid.usersById();
+
+        // Search without locks, then lock the participants' stripes and re-validate the slot at commit time.
+        // A slot taken by a concurrent booking sends us back to search again with fresh data.
+        Instant bestStart = null;
+        Instant bestEnd = null;
+        String meetingId = "meeting-" + UUID.randomUUID();
+        for (int attempt = 0; attempt < bookingAttempts && bestStart == null; attempt++) {
+            // Load each participant's busy intervals once for the whole window
+            phase = Timer.start();
+            Map<String, Long> generations = slotSearch.generations(participantIds);
+            IntervalIndex[] calendars = SlotSearch.participantIndexes(participantIds,
+                    busyIntervalLoader.load(participantIds, rangeStart, rangeEnd));
+            schedulerMetrics.stop(phase, SchedulerMetrics.Phase.LOAD);
+            Instant slotStart = slotSearch.bestSlot(participantIds, generations, calendars, SlotSearch.profiles(participantIds, usersById),
+                    rangeStart, rangeEnd, durationMin, valid.policy(), IntervalIndex.NONE, IntervalIndex.NONE);
+            if (slotStart == null) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "No available time slot found for all participants.");
+            }
+            Instant slotEnd = slotStart.plus(Duration.ofMinutes(durationMin));
+
+            phase = Timer.start();
+            Map<Integer, List<String>> byPartition = partitionRouter.group(participantIds);
+            try (ParticipantLocks.Lease lease = participantLocks.lockAll(participantIds)) {
+                boolean searchedCurrent = slotSearch.generations(participantIds).equals(generations);
+                boolean booked = partitionRouter.commitAcross(byPartition.keySet(), partition -> {
+                    List<String> localIds = byPartition.get(partition);
+                    if (eventRepository.countOverlappingForUsers(localIds, slotStart, slotEnd) > 0
+                            || busyIntervalLoader.seriesOverlap(localIds, slotStart, slotEnd)) {
+                        return false;
+                    }
+                    // Book the meeting: one meeting row plus one JDBC batch of participant events (per partition)
+                    Meeting meeting = meetingRepository.save(new Meeting(meetingId, "New Meeting", slotStart, slotEnd, rangeStart, rangeEnd));
+                    List<Event> newEvents = new ArrayList<>(localIds.size());
+                    for (String userId : localIds) {
+                        newEvents.add(new Event("New Meeting", slotStart, slotEnd, usersById.get(userId), meeting));
+                    }
+                    eventRepository.saveAll(newEvents);
+                    return true;
+                }, partition -> deleteMeetings(List.of(meetingId)));
+                if (booked) {
+                    bestStart = slotStart;
+                    bestEnd = slotEnd;
+                    if (searchedCurrent) {
+                        // A reschedule of this meeting then starts from the terms this search computed
+                        slotSearch.remember(participantIds, generations, calendars, rangeStart, rangeEnd, durationMin, valid.policy(),
+                                IntervalIndex.NONE, IntervalIndex.NONE, slotStart.toEpochMilli(), slotEnd.toEpochMilli());
+                    }
+                }
+            } finally {
+                schedulerMetrics.stop(phase, SchedulerMetrics.Phase.PERSIST);
+            }
+        }
+
+        if (bestStart == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Time slot was taken by a concurrent booking, please retry.");
+        }
+
+        MeetingResponse response = new MeetingResponse();
+        response.setMeetingId(meetingId);
+        response.setParticipantIds(participantIds);
+        response.setStartTime(bestStart.toString());
+        response.setEndTime(bestEnd.toString());
+        return response;
+    }
+
+    // Users live in their own partitions: one lookup per partition, in parallel
+    private List<User> findUsers(Collection<String> userIds) {
+        List<User> users = new ArrayList<>();
+        for (List<User> found : partitionRouter.scatter(userIds, userRepository::findByIdIn)) {
+            users.addAll(found);
+        }
+        return users;
+    }
+
+    // Undoes a booking on the current partition: its events and its copy of each meeting
+    private void deleteMeetings(List<String> meetingIds) {
+        for (String meetingId : meetingIds) {
+            eventRepository.deleteAll(eventRepository.findByMeetingId(meetingId));
+            meetingRepository.findById(meetingId).ifPresent(meetingRepository::delete);
+        }
+    }
+
+    // Parsed request with its participants loaded; failures are the 400s a single request returns
+    private record ValidatedRequest(List<String> participantIds, Instant rangeStart, Instant rangeEnd,
+                                    long durationMin, Map<String, User> usersById, ScoringPolicies.Policy policy) {
+    }
+
+    private ValidatedRequest validate(ScheduleRequest request) {
         Instant rangeStart;
         Instant rangeEnd;
         try {
@@ -45,7 +216,7 @@ public class EventService {
         List<String> participantIds = request.getParticipantIds();
 
         // Validate users exist
-        List<User> users = userRepository.findByIdIn(participantIds);
+        List<User> users = findUsers(participantIds);
         if (users.size() != participantIds.size()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "One or more users not found");
         }
@@ -55,112 +226,44 @@ public class EventService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid time range or duration");
         }
 
-        // Find available slots
-        Instant bestStart = null;
-        int maxScore = Integer.MIN_VALUE;
-        long stepMin = 15; // Discretization step
-
-        Instant currentStart = rangeStart;
-        while (!currentStart.plus(Duration.ofMinutes(durationMin)).isAfter(rangeEnd)) {
-            Instant currentEnd = currentStart.plus(Duration.ofMinutes(durationMin));
-
-            // Check availability without lambda
-            boolean isAvailable = true;
-            for (String userId : participantIds) {
-                if (!eventRepository.findOverlapping(userId, currentStart, currentEnd).isEmpty()) {
-                    isAvailable = false;
-                    break;
-                }
-            }
-
-            if (isAvailable) {
-                int score = computeScore(participantIds, currentStart, currentEnd, rangeStart);
-                if (score > maxScore || (score == maxScore && (bestStart == null || currentStart.isBefore(bestStart)))) {
-                    maxScore = score;
-                    bestStart = currentStart;
-                }
-            }
-
-            currentStart = currentStart.plus(Duration.ofMinutes(stepMin));
-        }
-
-        if (bestStart == null) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "No available time slot found for all participants.");
-        }
-
-        Instant bestEnd = bestStart.plus(Duration.ofMinutes(durationMin));
-
-        // Book the meeting
-        String meetingId = "meeting-" + UUID.randomUUID();
-        for (String userId : participantIds) {
-            User user = userRepository.findById(userId).orElseThrow();
-            Event newEvent = new Event("New Meeting", bestStart, bestEnd, user);
-            eventRepository.save(newEvent);
+        Map<String, User> usersById = new HashMap<>();
+        for (User user : users) {
+            usersById.put(user.getId(), user);
         }
-
-        MeetingResponse response = new MeetingResponse();
-        response.setMeetingId(meetingId);
-        response.setParticipantIds(participantIds);
-        response.setStartTime(bestStart.toString());
-        response.setEndTime(bestEnd.toString());
-        return CompletableFuture.completedFuture(response);
+        return new ValidatedRequest(participantIds, rangeStart, rangeEnd, durationMin, usersById,
+                scoringPolicies.policyFor(request.getTenantId()));
     }
 
-    private int computeScore(List<String> participantIds, Instant start, Instant end, Instant rangeStart) {
-        int score = 0;
-
-        // Heuristic 1: Prefer earlier slots
-        long minFromRangeStart = Duration.between(rangeStart, start).toMinutes();
-        score += 100000 - minFromRangeStart;
-
-        // Heuristic 2: Prefer within working hours (9 AM - 5 PM UTC)
-        ZonedDateTime startZdt = start.atZone(ZoneId.of("UTC"));
-        ZonedDateTime endZdt = end.atZone(ZoneId.of("UTC"));
-        if (startZdt.getHour() >= 9 && endZdt.getHour() <= 17 && endZdt.getMinute() <= 0) {
-            score += 500;
-        }
-
-        // Heuristic 3: Minimize awkward gaps, prefer back-to-back or large gaps
-        for (String userId : participantIds) {
-            Instant prevEnd = eventRepository.findMaxEndBefore(userId, start);
-            Instant nextStart = eventRepository.findMinStartAfter(userId, end);
-
-            if (prevEnd != null) {
-                long gapBeforeMin = Duration.between(prevEnd, start).toMinutes();
-                if (gapBeforeMin == 0) {
-                    score += 100; // Back-to-back bonus
-                } else if (gapBeforeMin < 30) {
-                    score -= 50; // Penalty for awkward small gap
-                } else if (gapBeforeMin >= 60) {
-                    score += 50; // Bonus for large gap
-                }
-            }
-
-            if (nextStart != null) {
-                long gapAfterMin = Duration.between(end, nextStart).toMinutes();
-                if (gapAfterMin == 0) {
-                    score += 100; // Back-to-back bonus
-                } else if (gapAfterMin < 30) {
-                    score -= 50; // Penalty for awkward small gap
-                } else if (gapAfterMin >= 60) {
-                    score += 50; // Bonus for large gap
-                }
-            }
+    /** The K best slots with their score breakdown, best first. Nothing is booked. */
+    @Async("taskExecutor")
+    public CompletableFuture<List<SlotSuggestion>> suggestSlots(ScheduleRequest request, int k) {
+        if (k < 1 || k > MAX_SUGGESTIONS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "k must be between 1 and " + MAX_SUGGESTIONS);
         }
+        ValidatedRequest valid = validate(request);
+        Map<String, IntervalIndex> indexes = busyIntervalLoader.load(valid.participantIds(), valid.rangeStart(), valid.rangeEnd());
+        IntervalIndex[] participantIndexes = SlotSearch.participantIndexes(valid.participantIds(), indexes);
+        long[] candidates = slotSearch.candidateStarts(participantIndexes, valid.rangeStart(), valid.rangeEnd(), valid.durationMin());
 
-        // Heuristic 4: Prefer slots with 15-minute buffer
-        for (String userId : participantIds) {
-            Instant prevEnd = eventRepository.findMaxEndBefore(userId, start);
-            Instant nextStart = eventRepository.findMinStartAfter(userId, end);
-            if (prevEnd != null && Duration.between(prevEnd, start).toMinutes() >= 15) {
-                score += 25;
-            }
-            if (nextStart != null && Duration.between(end, nextStart).toMinutes() >= 15) {
-                score += 25;
-            }
-        }
+        long durationMs = Duration.ofMinutes(valid.durationMin()).toMillis();
+        SlotScorer scorer = SlotSearch.scorer(participantIndexes, SlotSearch.profiles(valid.participantIds(), valid.usersById()),
+                valid.rangeStart(), valid.rangeEnd(), valid.durationMin(), valid.policy());
+        TopKSlotSearch.Result result = TopKSlotSearch.topK(scorer, candidates, k);
+        schedulerMetrics.recordCandidates(result.scored());
 
-        return score;
+        List<SlotSuggestion> suggestions = new ArrayList<>(result.best().length);
+        for (int i : result.best()) {
+            SlotScorer.Breakdown breakdown = scorer.explain(candidates[i]);
+            SlotSuggestion suggestion = new SlotSuggestion();
+            suggestion.setStartTime(Instant.ofEpochMilli(candidates[i]).toString());
+            suggestion.setEndTime(Instant.ofEpochMilli(candidates[i] + durationMs).toString());
+            suggestion.setScore(breakdown.total());
+            suggestion.setEarliness(breakdown.earliness());
+            suggestion.setWorkingHours(breakdown.workingHours());
+            suggestion.setGaps(breakdown.gaps());
+            suggestions.add(suggestion);
+        }
+        return CompletableFuture.completedFuture(suggestions);
     }
 
     @Async("taskExecutor")
@@ -173,14 +276,159 @@ public class EventService {
         } catch (Exception e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid time format in query parameters");
         }
-        List<Event> events = eventRepository.findByUserIdAndStartTimeGreaterThanEqualAndEndTimeLessThanEqual(userId, start, end);
-        List<EventDto> dtos = events.stream().map(event -> {
+        List<EventProjection> rows = partitionRouter.on(partitionRouter.partitionOf(userId), () -> {
+            List<EventProjection> found = new ArrayList<>(recurringOccurrences(userId, start, end));
+            for (Event event : eventRepository.findByUserIdAndStartTimeGreaterThanEqualAndEndTimeLessThanEqual(userId, start, end)) {
+                found.add(new EventProjection(event.getId(), event.getTitle(), event.getStartTime(), event.getEndTime()));
+            }
+            return found;
+        });
+        rows.sort(CALENDAR_ORDER);
+        List<EventDto> dtos = rows.stream().map(event -> {
             EventDto dto = new EventDto();
-            dto.setTitle(event.getTitle());
-            dto.setStartTime(event.getStartTime().toString());
-            dto.setEndTime(event.getEndTime().toString());
+            dto.setTitle(event.title());
+            dto.setStartTime(event.startTime().toString());
+            dto.setEndTime(event.endTime().toString());
             return dto;
         }).collect(Collectors.toList());
         return CompletableFuture.completedFuture(dtos);
     }
-}
\ No newline at end of file
+
+    // NDJSON calendar stream: rows go straight from a DB cursor to the response, so memory stays flat
+    public StreamingResponseBody streamUserCalendar(String userId, String startStr, String endStr, String after, Integer limit) {
+        Instant start;
+        Instant end;
+        try {
+            start = Instant.parse(startStr);
+            end = Instant.parse(endStr);
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid time format in query parameters");
+        }
+        Instant afterStart = start;
+        long afterId = Long.MIN_VALUE;
+        if (after != null) {
+            try {
+                int separator = after.lastIndexOf('_');
+                afterStart = Instant.parse(after.substring(0, separator));
+                afterId = Long.parseLong(after.substring(separator + 1));
+            } catch (Exception e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid calendar cursor");
+            }
+        }
+        long maxRows = limit != null && limit > 0 ? limit : Long.MAX_VALUE;
+        Instant cursorStart = afterStart;
+        long cursorId = afterId;
+
+        return out -> partitionRouter.on(partitionRouter.partitionOf(userId), () -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            readOnly.setReadOnly(true);
+            return readOnly.execute(status -> {
+                // Occurrences are expanded lazily from the cursor on and merged into the rows in the same order
+                EventProjection position = new EventProjection(cursorId, null, cursorStart, null);
+                Iterator<EventProjection> occurrences = occurrencesAfter(userId, start, end, position);
+                try (Stream<EventProjection> rows = eventRepository.streamCalendar(userId, start, end, cursorStart, cursorId);
+                     JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                    json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    json.setRootValueSeparator(null);
+                    Iterator<EventProjection> it = rows.iterator();
+                    EventProjection row = it.hasNext() ? it.next() : null;
+                    EventProjection occurrence = occurrences.hasNext() ? occurrences.next() : null;
+                    long written = 0;
+                    while (written < maxRows && (row != null || occurrence != null)) {
+                        EventProjection event;
+                        if (row != null && (occurrence == null || CALENDAR_ORDER.compare(row, occurrence) < 0)) {
+                            event = row;
+                            row = it.hasNext() ? it.next() : null;
+                        } else {
+                            event = occurrence;
+                            occurrence = occurrences.hasNext() ? occurrences.next() : null;
+                        }
+                        json.writeStartObject();
+                        json.writeStringField("title", event.title());
+                        json.writeStringField("startTime", event.startTime().toString());
+                        json.writeStringField("endTime", event.endTime().toString());
+                        json.writeStringField("cursor", event.cursor());
+                        json.writeEndObject();
+                        json.writeRaw('\n');
+                        if (++written % 100 == 0) {
+                            json.flush();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        });
+    }
+
+    // The next occurrence of a series in the stream, with the iterator it came from
+    private record SeriesHead(EventProjection row, RecurringEvent series, RecurrenceRule rule, PrimitiveIterator.OfLong starts) {
+    }
+
+    /**
+     * Occurrences of the user's series inside [start, end] that sort after {@code position}, in calendar order.
+     * Each series is expanded from the position on, one occurrence at a time, so memory is one pending row per
+     * series however long the window is.
+     */
+    private Iterator<EventProjection> occurrencesAfter(String userId, Instant start, Instant end, EventProjection position) {
+        PriorityQueue<SeriesHead> heads = new PriorityQueue<>(Comparator.comparing(SeriesHead::row, CALENDAR_ORDER));
+        long from = Math.max(start.toEpochMilli(), position.startTime().toEpochMilli());
+        for (RecurringEvent series : recurringEventRepository.findByUserIds(List.of(userId))) {
+            RecurrenceRule rule = series.toRule();
+            SeriesHead head = nextOccurrence(series, rule, rule.starts(from, end.toEpochMilli()), start, end, position);
+            if (head != null) {
+                heads.add(head);
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public EventProjection next() {
+                SeriesHead head = heads.remove();
+                SeriesHead following = nextOccurrence(head.series(), head.rule(), head.starts(), start, end, position);
+                if (following != null) {
+                    heads.add(following);
+                }
+                return head.row();
+            }
+        };
+    }
+
+    private static SeriesHead nextOccurrence(RecurringEvent series, RecurrenceRule rule, PrimitiveIterator.OfLong starts,
+                                             Instant start, Instant end, EventProjection position) {
+        while (starts.hasNext()) {
+            long occurrenceStart = starts.nextLong();
+            long occurrenceEnd = occurrenceStart + rule.durationMs();
+            if (occurrenceEnd > end.toEpochMilli()) {
+                return null; // Later occurrences end later still
+            }
+            EventProjection row = new EventProjection(-series.getId(), series.getTitle(),
+                    Instant.ofEpochMilli(occurrenceStart), Instant.ofEpochMilli(occurrenceEnd));
+            if (occurrenceStart >= start.toEpochMilli() && CALENDAR_ORDER.compare(row, position) > 0) {
+                return new SeriesHead(row, series, rule, starts);
+            }
+        }
+        return null;
+    }
+
+    // Occurrences of the user's series that lie inside [start, end], in calendar order
+    private List<EventProjection> recurringOccurrences(String userId, Instant start, Instant end) {
+        List<EventProjection> occurrences = new ArrayList<>();
+        for (RecurringEvent series : recurringEventRepository.findByUserIds(List.of(userId))) {
+            series.toRule().expand(start.toEpochMilli(), end.toEpochMilli(), (occurrenceStart, occurrenceEnd) -> {
+                if (occurrenceStart >= start.toEpochMilli() && occurrenceEnd <= end.toEpochMilli()) {
+                    occurrences.add(new EventProjection(-series.getId(), series.getTitle(),
+                            Instant.ofEpochMilli(occurrenceStart), Instant.ofEpochMilli(occurrenceEnd)));
+                }
+            });
+        }
+        occurrences.sort(CALENDAR_ORDER);
+        return occurrences;
+    }
+}
+
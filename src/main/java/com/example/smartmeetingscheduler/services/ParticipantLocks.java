@@ -0,0 +1,64 @@
+// src/main/java/com/example/smartmeetingscheduler/services/ParticipantLocks.java
+package com.example.smartmeetingscheduler.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped per-participant locks for the booking commit. Stripes are always taken in ascending
+ * index order, so overlapping participant sets cannot deadlock, while disjoint sets rarely share
+ * a stripe and proceed in parallel. The locks only cover this JVM.
+ */
+@Component
+public class ParticipantLocks {
+
+    private final ReentrantLock[] stripes;
+
+    public ParticipantLocks(@Value("${scheduler.booking.lock-stripes:256}") int stripeCount) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public Lease lockAll(Collection<String> userIds) {
+        int[] indexes = userIds.stream()
+                .mapToInt(id -> Math.floorMod(id.hashCode(), stripes.length))
+                .distinct()
+                .sorted()
+                .toArray();
+        int locked = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                locked++;
+            }
+        } catch (RuntimeException e) {
+            unlock(indexes, locked);
+            throw e;
+        }
+        return new Lease(indexes);
+    }
+
+    private void unlock(int[] indexes, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+
+    public final class Lease implements AutoCloseable {
+        private final int[] indexes;
+
+        private Lease(int[] indexes) {
+            this.indexes = indexes;
+        }
+
+        @Override
+        public void close() {
+            unlock(indexes, indexes.length);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+// src/main/java/com/example/smartmeetingscheduler/services/PartitionRouter.java
+package com.example.smartmeetingscheduler.services;
+
+import com.example.smartmeetingscheduler.config.PartitionRoutingDataSource;
+import com.example.smartmeetingscheduler.config.QueryCounter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Places each user's rows (user, events, series, and a copy of every meeting they attend) in one of
+ * {@code scheduler.partitions.count} databases, chosen by rendezvous hashing of the user id: adding a
+ * partition only moves the users that now rank it highest. Lookups for many users fan out to their
+ * partitions in parallel; a write spanning partitions commits one local transaction per partition and
+ * compensates the ones already committed if a later one fails. With a single partition every call runs
+ * inline on the caller's thread and transaction, exactly as without partitioning.
+ */
+@Slf4j
+@Component
+public class PartitionRouter {
+
+    // Each partition hands out event and series ids from its own range, so an id is unique across partitions
+    private static final int ID_RANGE_BITS = 40;
+
+    @Value("${scheduler.partitions.count:1}")
+    private int count;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ExecutorService scatterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Without a routing data source every partition would silently be the same database
+    @PostConstruct
+    void checkDataSource() {
+        if (count < 1) {
+            throw new IllegalStateException("scheduler.partitions.count must be at least 1, was " + count);
+        }
+        if (count == 1) {
+            return;
+        }
+        DataSource target = dataSource;
+        while (target instanceof DelegatingDataSource delegating) {
+            target = delegating.getTargetDataSource();
+        }
+        if (!(target instanceof PartitionRoutingDataSource routing) || routing.getResolvedDataSources().size() != count) {
+            throw new IllegalStateException("scheduler.partitions.count=" + count
+                    + " needs a PartitionRoutingDataSource with as many partitions; enable the partitioned profile");
+        }
+    }
+
+    /** First id of a fresh partition's sequences; past the first pooled block, which Hibernate counts downwards. */
+    public static long firstId(int partition) {
+        return ((long) partition << ID_RANGE_BITS) + 100;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int partitionOf(String userId) {
+        int best = 0;
+        long bestWeight = Long.MIN_VALUE;
+        for (int partition = 0; partition < count; partition++) {
+            long weight = mix(userId.hashCode() * 0x9E3779B97F4A7C15L + partition);
+            if (weight > bestWeight) {
+                best = partition;
+                bestWeight = weight;
+            }
+        }
+        return best;
+    }
+
+    // SplitMix64 finalizer: spreads neighbouring (user, partition) pairs over the whole range
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Users by partition, in ascending partition order. */
+    public Map<Integer, List<String>> group(Collection<String> userIds) {
+        Map<Integer, List<String>> groups = new TreeMap<>();
+        for (String userId : userIds) {
+            groups.computeIfAbsent(partitionOf(userId), partition -> new ArrayList<>()).add(userId);
+        }
+        return groups;
+    }
+
+    /**
+     * Runs {@code work} against one partition. Inside a transaction only the transaction's own partition
+     * can be used: its connection is already bound.
+     */
+    public <T> T on(int partition, Supplier<T> work) {
+        if (count == 1) {
+            return work.get();
+        }
+        Integer previous = PartitionRoutingDataSource.current();
+        if (previous != null && previous != partition && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Partition " + partition + " used inside a transaction on partition " + previous);
+        }
+        PartitionRoutingDataSource.select(partition);
+        try {
+            return work.get();
+        } finally {
+            PartitionRoutingDataSource.select(previous);
+        }
+    }
+
+    /**
+     * Applies {@code work} to each partition's share of {@code userIds} and returns one result per partition.
+     * A single partition runs inline, so it joins the caller's transaction; several run in parallel.
+     */
+    public <T> List<T> scatter(Collection<String> userIds, Function<List<String>, T> work) {
+        if (count == 1) {
+            return List.of(work.apply(List.copyOf(userIds)));
+        }
+        Map<Integer, List<String>> groups = group(userIds);
+        if (groups.size() == 1) {
+            Map.Entry<Integer, List<String>> only = groups.entrySet().iterator().next();
+            return List.of(on(only.getKey(), () -> work.apply(only.getValue())));
+        }
+        List<Supplier<T>> tasks = new ArrayList<>(groups.size());
+        groups.forEach((partition, ids) -> tasks.add(() -> on(partition, () -> work.apply(ids))));
+        return gather(tasks);
+    }
+
+    /** Applies {@code work} to every partition, in parallel; the result at index p is partition p's. */
+    public <T> List<T> everywhere(IntFunction<T> work) {
+        if (count == 1) {
+            return List.of(work.apply(0));
+        }
+        List<Supplier<T>> tasks = new ArrayList<>(count);
+        for (int partition = 0; partition < count; partition++) {
+            int p = partition;
+            tasks.add(() -> on(p, () -> work.apply(p)));
+        }
+        return gather(tasks);
+    }
+
+    private <T> List<T> gather(List<Supplier<T>> tasks) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        long[] queries = new long[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            int task = i;
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                long before = QueryCounter.current();
+                try {
+                    return tasks.get(task).get();
+                } finally {
+                    queries[task] = QueryCounter.current() - before;
+                }
+            }, scatterExecutor));
+        }
+        // Wait for every task, so none is still running against a partition when an error is thrown
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(error -> null).join();
+        // Statements ran on other threads; count them against the request that scattered them
+        QueryCounter.add(Arrays.stream(queries).sum());
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Commits a write that spans {@code partitions}: {@code step} runs in its own transaction on each
+     * partition, in ascending order, and may return false to abort (its transaction rolls back). After an
+     * abort or failure, {@code undo} runs in a new transaction on every partition already committed, newest
+     * first. Returns whether every step committed. Callers hold the participants' locks throughout, so no
+     * other booking sees the partial state; plain readers may, until it is completed or undone.
+     */
+    public boolean commitAcross(Collection<Integer> partitions, IntPredicate step, IntConsumer undo) {
+        List<Integer> committed = new ArrayList<>();
+        try {
+            for (int partition : new TreeSet<>(partitions)) {
+                Boolean done = on(partition, () -> transactionTemplate.execute(status -> {
+                    if (step.test(partition)) {
+                        return true;
+                    }
+                    status.setRollbackOnly();
+                    return false;
+                }));
+                if (!Boolean.TRUE.equals(done)) {
+                    compensate(committed, undo);
+                    return false;
+                }
+                committed.add(partition);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            compensate(committed, undo);
+            throw e;
+        }
+    }
+
+    private void compensate(List<Integer> committed, IntConsumer undo) {
+        for (int i = committed.size() - 1; i >= 0; i--) {
+            int partition = committed.get(i);
+            try {
+                on(partition, () -> transactionTemplate.execute(status -> {
+                    undo.accept(partition);
+                    return null;
+                }));
+            } catch (RuntimeException e) {
+                log.error("Could not undo a cross-partition write on partition {}", partition, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scatterExecutor.shutdown();
+    }
+}
@@ -0,0 +1,121 @@
+// src/main/java/com/example/smartmeetingscheduler/services/RecurringEventService.java
+package com.example.smartmeetingscheduler.services;
+
+import com.example.smartmeetingscheduler.dto.RecurringEventDto;
+import com.example.smartmeetingscheduler.entities.RecurringEvent;
+import com.example.smartmeetingscheduler.entities.User;
+import com.example.smartmeetingscheduler.repositories.RecurringEventRepository;
+import com.example.smartmeetingscheduler.repositories.UserRepository;
+import com.example.smartmeetingscheduler.scheduling.FreeBusyCache;
+import com.example.smartmeetingscheduler.scheduling.RecurrenceRule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Creates and deletes recurring series. A series is one row; {@link BusyIntervalLoader} and the calendar
+ * reads in {@link EventService} expand it into occurrences.
+ */
+@Service
+public class RecurringEventService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecurringEventRepository recurringEventRepository;
+
+    @Autowired
+    private ParticipantLocks participantLocks;
+
+    @Autowired
+    private PartitionRouter partitionRouter;
+
+    @Autowired
+    private FreeBusyCache freeBusyCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /** Stores a recurring series as one row; its occurrences become busy time for scheduling without being saved. */
+    @Async("taskExecutor")
+    public CompletableFuture<RecurringEventDto> createRecurringEvent(String userId, RecurringEventDto request) {
+        int partition = partitionRouter.partitionOf(userId);
+        User user = partitionRouter.on(partition, () -> userRepository.findById(userId))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+        RecurringEvent series = new RecurringEvent();
+        series.setTitle(request.getTitle());
+        series.setUser(user);
+        series.setDurationMinutes(request.getDurationMinutes());
+        series.setFrequency(request.getFrequency());
+        series.setRepeatInterval(request.getInterval());
+        try {
+            series.setFirstStart(Instant.parse(request.getFirstStart()));
+            series.setRepeatUntil(request.getUntil() != null ? Instant.parse(request.getUntil()) : null);
+            Set<LocalDate> exceptions = new TreeSet<>();
+            if (request.getExceptionDates() != null) {
+                for (String date : request.getExceptionDates()) {
+                    exceptions.add(LocalDate.parse(date));
+                }
+            }
+            series.setExceptionDates(exceptions);
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid time format in recurring event");
+        }
+        String timeZone = request.getTimeZone() != null ? request.getTimeZone()
+                : user.getTimeZone() != null ? user.getTimeZone() : "UTC";
+        try {
+            ZoneId.of(timeZone);
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid time zone");
+        }
+        series.setTimeZone(timeZone);
+        int weekdays = 0;
+        if (request.getDaysOfWeek() != null) {
+            if (request.getFrequency() != RecurrenceRule.Frequency.WEEKLY) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Days of week only apply to weekly series");
+            }
+            for (DayOfWeek day : request.getDaysOfWeek()) {
+                weekdays |= 1 << (day.getValue() - 1);
+            }
+        }
+        series.setWeekdays(weekdays);
+
+        // Same stripe as bookings, so a booking's commit-time check sees the series or finishes first
+        try (ParticipantLocks.Lease lease = participantLocks.lockAll(List.of(userId))) {
+            partitionRouter.on(partition, () -> transactionTemplate.execute(status -> recurringEventRepository.save(series)));
+            freeBusyCache.touch(userId); // series are not in the buckets, but cached gap terms depend on them
+        }
+        request.setId(series.getId());
+        request.setTimeZone(timeZone);
+        return CompletableFuture.completedFuture(request);
+    }
+
+    @Async("taskExecutor")
+    public CompletableFuture<Void> deleteRecurringEvent(String userId, Long id) {
+        // Locked like every other calendar write, so a booking never carries gap terms across this change
+        try (ParticipantLocks.Lease lease = participantLocks.lockAll(List.of(userId))) {
+            partitionRouter.on(partitionRouter.partitionOf(userId), () -> transactionTemplate.execute(status -> {
+                RecurringEvent series = recurringEventRepository.findById(id)
+                        .filter(found -> found.getUser().getId().equals(userId))
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Recurring event not found"));
+                recurringEventRepository.delete(series);
+                return null;
+            }));
+            freeBusyCache.touch(userId);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+}
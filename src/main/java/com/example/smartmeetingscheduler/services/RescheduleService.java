@@ -0,0 +1,241 @@
+// src/main/java/com/example/smartmeetingscheduler/services/RescheduleService.java
+package com.example.smartmeetingscheduler.services;
+
+import com.example.smartmeetingscheduler.dto.EventUpdateRequest;
+import com.example.smartmeetingscheduler.dto.EventUpdateResponse;
+import com.example.smartmeetingscheduler.dto.MeetingResponse;
+import com.example.smartmeetingscheduler.entities.Event;
+import com.example.smartmeetingscheduler.entities.Meeting;
+import com.example.smartmeetingscheduler.entities.User;
+import com.example.smartmeetingscheduler.repositories.EventRepository;
+import com.example.smartmeetingscheduler.repositories.MeetingRepository;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.ScoringPolicies;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Changes to existing events: moving or cancelling one, and re-placing the booked meetings a move
+ * collides with. New meetings are booked by {@link EventService}.
+ */
+@Service
+public class RescheduleService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private BusyIntervalLoader busyIntervalLoader;
+
+    @Autowired
+    private ParticipantLocks participantLocks;
+
+    @Autowired
+    private PartitionRouter partitionRouter;
+
+    @Autowired
+    private ScoringPolicies scoringPolicies;
+
+    @Autowired
+    private SlotSearch slotSearch;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${scheduler.booking.attempts:3}")
+    private int bookingAttempts;
+
+    /**
+     * Moves or renames a standalone event. Booked meetings of the same user that the new time collides with
+     * are re-placed one at a time inside the window they were originally searched in; nothing else moves.
+     */
+    @Async("taskExecutor")
+    public CompletableFuture<EventUpdateResponse> updateEvent(Long id, EventUpdateRequest request) {
+        Instant start;
+        Instant end;
+        try {
+            start = Instant.parse(request.getStartTime());
+            end = Instant.parse(request.getEndTime());
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid time format in event");
+        }
+        if (!end.isAfter(start)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid time range");
+        }
+        int partition = partitionOfEvent(id);
+        Event existing = partitionRouter.on(partition, () -> eventRepository.findById(id))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Event not found"));
+        if (existing.getMeeting() != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Events of a booked meeting move with the meeting");
+        }
+        String userId = existing.getUser().getId();
+
+        Event updated;
+        try (ParticipantLocks.Lease lease = participantLocks.lockAll(List.of(userId))) {
+            updated = partitionRouter.on(partition, () -> transactionTemplate.execute(status -> {
+                Event event = eventRepository.findById(id)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Event not found"));
+                if (request.getTitle() != null) {
+                    event.setTitle(request.getTitle());
+                }
+                event.setStartTime(start);
+                event.setEndTime(end);
+                return event;
+            }));
+        }
+
+        EventUpdateResponse response = new EventUpdateResponse();
+        response.setId(updated.getId());
+        response.setTitle(updated.getTitle());
+        response.setStartTime(updated.getStartTime().toString());
+        response.setEndTime(updated.getEndTime().toString());
+        ScoringPolicies.Policy policy = scoringPolicies.policyFor(request.getTenantId());
+        List<Meeting> affected = new ArrayList<>(partitionRouter.on(partition,
+                () -> eventRepository.findMeetingsOverlapping(userId, start, end)));
+        affected.sort(Comparator.comparing(Meeting::getStartTime));
+        for (Meeting meeting : affected) {
+            MeetingResponse moved = replaceMeeting(meeting, policy);
+            if (moved != null) {
+                response.getRescheduled().add(moved);
+            } else {
+                response.getUnresolved().add(meeting.getId());
+            }
+        }
+        return CompletableFuture.completedFuture(response);
+    }
+
+    /**
+     * Deletes one event. For a meeting participant this leaves the meeting; the last one cancels it
+     * (with partitioned storage, the last one on a partition removes that partition's copy).
+     */
+    @Async("taskExecutor")
+    public CompletableFuture<Void> cancelEvent(Long id) {
+        int partition = partitionOfEvent(id);
+        Event existing = partitionRouter.on(partition, () -> eventRepository.findById(id))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Event not found"));
+        try (ParticipantLocks.Lease lease = participantLocks.lockAll(List.of(existing.getUser().getId()))) {
+            partitionRouter.on(partition, () -> transactionTemplate.execute(status -> {
+                Event event = eventRepository.findById(id)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Event not found"));
+                Meeting meeting = event.getMeeting();
+                eventRepository.delete(event);
+                if (meeting != null && eventRepository.findByMeetingId(meeting.getId()).isEmpty()) {
+                    meetingRepository.deleteById(meeting.getId());
+                }
+                return null;
+            }));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // Event ids do not tell which partition holds the event, so every partition is asked
+    private int partitionOfEvent(Long id) {
+        if (partitionRouter.count() == 1) {
+            return 0;
+        }
+        int partition = partitionRouter.everywhere(p -> eventRepository.existsById(id)).indexOf(true);
+        if (partition < 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Event not found");
+        }
+        return partition;
+    }
+
+    // Moves one meeting whose slot is no longer free to the best free slot in its search window, or returns null
+    private MeetingResponse replaceMeeting(Meeting meeting, ScoringPolicies.Policy policy) {
+        List<Event> events = new ArrayList<>();
+        for (List<Event> found : partitionRouter.everywhere(partition -> eventRepository.findByMeetingId(meeting.getId()))) {
+            events.addAll(found);
+        }
+        Map<String, User> usersById = new HashMap<>();
+        for (Event event : events) {
+            usersById.put(event.getUser().getId(), event.getUser());
+        }
+        List<String> participantIds = new ArrayList<>(usersById.keySet());
+        long oldStart = meeting.getStartTime().toEpochMilli();
+        long oldEnd = meeting.getEndTime().toEpochMilli();
+        long durationMin = Duration.between(meeting.getStartTime(), meeting.getEndTime()).toMinutes();
+        // Meetings booked before windows were stored are re-placed within their own UTC day
+        Instant windowStart = meeting.getWindowStart() != null ? meeting.getWindowStart()
+                : meeting.getStartTime().truncatedTo(ChronoUnit.DAYS);
+        Instant dayEnd = windowStart.plus(Duration.ofDays(1));
+        Instant windowEnd = meeting.getWindowEnd() != null ? meeting.getWindowEnd()
+                : meeting.getEndTime().isAfter(dayEnd) ? meeting.getEndTime() : dayEnd;
+
+        for (int attempt = 0; attempt < bookingAttempts; attempt++) {
+            // The participants' calendars still hold the meeting; the search leaves it out
+            Map<String, Long> generations = slotSearch.generations(participantIds);
+            IntervalIndex[] calendars = SlotSearch.participantIndexes(participantIds,
+                    busyIntervalLoader.load(participantIds, windowStart, windowEnd));
+            Instant slotStart = slotSearch.bestSlot(participantIds, generations, calendars, SlotSearch.profiles(participantIds, usersById),
+                    windowStart, windowEnd, durationMin, policy, oldStart, oldEnd);
+            if (slotStart == null) {
+                return null;
+            }
+            Instant slotEnd = slotStart.plus(Duration.ofMinutes(durationMin));
+
+            Map<Integer, List<String>> byPartition = partitionRouter.group(participantIds);
+            try (ParticipantLocks.Lease lease = participantLocks.lockAll(participantIds)) {
+                boolean searchedCurrent = slotSearch.generations(participantIds).equals(generations);
+                boolean moved = partitionRouter.commitAcross(byPartition.keySet(), partition -> {
+                    List<String> localIds = byPartition.get(partition);
+                    Map<String, IntervalIndex> committed = busyIntervalLoader.loadFromDatabase(localIds, windowStart, windowEnd);
+                    for (String userId : localIds) {
+                        if (committed.get(userId).without(oldStart, oldEnd).overlaps(slotStart.toEpochMilli(), slotEnd.toEpochMilli())) {
+                            return false;
+                        }
+                    }
+                    Meeting current = meetingRepository.findById(meeting.getId()).orElse(null);
+                    if (current == null || !current.getStartTime().equals(meeting.getStartTime())) {
+                        return false; // Cancelled or moved by someone else meanwhile
+                    }
+                    moveMeeting(meeting.getId(), slotStart, slotEnd);
+                    return true;
+                }, partition -> moveMeeting(meeting.getId(), meeting.getStartTime(), meeting.getEndTime()));
+                if (moved) {
+                    if (searchedCurrent) {
+                        slotSearch.remember(participantIds, generations, calendars, windowStart, windowEnd, durationMin, policy,
+                                oldStart, oldEnd, slotStart.toEpochMilli(), slotEnd.toEpochMilli());
+                    }
+                    MeetingResponse response = new MeetingResponse();
+                    response.setMeetingId(meeting.getId());
+                    response.setTitle(meeting.getTitle());
+                    response.setParticipantIds(participantIds);
+                    response.setStartTime(slotStart.toString());
+                    response.setEndTime(slotEnd.toString());
+                    return response;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Sets the times of the current partition's copy of a meeting and of its events there
+    private void moveMeeting(String meetingId, Instant start, Instant end) {
+        meetingRepository.findById(meetingId).ifPresent(meeting -> {
+            meeting.setStartTime(start);
+            meeting.setEndTime(end);
+        });
+        for (Event event : eventRepository.findByMeetingId(meetingId)) {
+            event.setStartTime(start);
+            event.setEndTime(end);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+// src/main/java/com/example/smartmeetingscheduler/services/SchedulerMetrics.java
+package com.example.smartmeetingscheduler.services;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/** Meters for the scheduling hot path, created once so recording never looks anything up. */
+@Component
+public class SchedulerMetrics {
+
+    public enum Phase { VALIDATION, LOAD, SEARCH, SCORE, PERSIST }
+
+    private final Map<Phase, Timer> phaseTimers = new EnumMap<>(Phase.class);
+    private final DistributionSummary candidatesExamined;
+    private final DistributionSummary queriesIssued;
+
+    public SchedulerMetrics(MeterRegistry registry) {
+        for (Phase phase : Phase.values()) {
+            phaseTimers.put(phase, Timer.builder("scheduler.phase")
+                    .description("Time spent in each phase of scheduleMeeting")
+                    .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        candidatesExamined = DistributionSummary.builder("scheduler.search.candidates")
+                .description("Candidate start times scored per slot search")
+                .register(registry);
+        queriesIssued = DistributionSummary.builder("scheduler.request.queries")
+                .description("SQL statements prepared per scheduling request")
+                .register(registry);
+    }
+
+    public void stop(Timer.Sample sample, Phase phase) {
+        sample.stop(phaseTimers.get(phase));
+    }
+
+    public void recordCandidates(int candidates) {
+        candidatesExamined.record(candidates);
+    }
+
+    public void recordQueries(long queries) {
+        queriesIssued.record(queries);
+    }
+}
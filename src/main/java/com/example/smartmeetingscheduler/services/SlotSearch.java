@@ -0,0 +1,243 @@
+// src/main/java/com/example/smartmeetingscheduler/services/SlotSearch.java
+package com.example.smartmeetingscheduler.services;
+
+import com.example.smartmeetingscheduler.entities.User;
+import com.example.smartmeetingscheduler.scheduling.AvailabilityBitmap;
+import com.example.smartmeetingscheduler.scheduling.CandidateScorer;
+import com.example.smartmeetingscheduler.scheduling.FreeBusyCache;
+import com.example.smartmeetingscheduler.scheduling.FreeSlotFinder;
+import com.example.smartmeetingscheduler.scheduling.GapTermCache;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.ParallelCandidateSearch;
+import com.example.smartmeetingscheduler.scheduling.ScoringPolicies;
+import com.example.smartmeetingscheduler.scheduling.ScoringRules;
+import com.example.smartmeetingscheduler.scheduling.SlotScorer;
+import com.example.smartmeetingscheduler.scheduling.WorkingHoursMask;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Slot search over loaded calendars, shared by booking and rescheduling: free grid starts, then the best
+ * of them by the request's scoring rules. Nothing here touches the database. Searches over calendars
+ * loaded at known generations share per-participant gap terms through {@link GapTermCache}.
+ */
+@Component
+public class SlotSearch {
+
+    static final Duration SLOT_STEP = Duration.ofMinutes(15); // Discretization step
+
+    @Autowired
+    @Qualifier("scoringPool")
+    private ForkJoinPool scoringPool;
+
+    @Autowired
+    private SchedulerMetrics schedulerMetrics;
+
+    @Autowired
+    private FreeBusyCache freeBusyCache;
+
+    @Autowired
+    private GapTermCache gapTermCache;
+
+    @Value("${scheduler.parallel.threshold:20000}")
+    private long parallelThreshold;
+
+    @Value("${scheduler.bitmap.enabled:true}")
+    private boolean bitmapEnabled;
+
+    static IntervalIndex[] participantIndexes(List<String> participantIds, Map<String, IntervalIndex> indexes) {
+        IntervalIndex[] participantIndexes = new IntervalIndex[participantIds.size()];
+        for (int i = 0; i < participantIds.size(); i++) {
+            participantIndexes[i] = indexes.get(participantIds.get(i));
+        }
+        return participantIndexes;
+    }
+
+    static WorkingHoursMask.Profile[] profiles(List<String> participantIds, Map<String, User> usersById) {
+        WorkingHoursMask.Profile[] profiles = new WorkingHoursMask.Profile[participantIds.size()];
+        for (int i = 0; i < participantIds.size(); i++) {
+            User user = usersById.get(participantIds.get(i));
+            WorkingHoursMask.Profile fallback = WorkingHoursMask.Profile.DEFAULT;
+            profiles[i] = new WorkingHoursMask.Profile(
+                    user.getTimeZone() != null ? ZoneId.of(user.getTimeZone()) : fallback.zone(),
+                    user.getWorkdayStart() != null ? user.getWorkdayStart() : fallback.start(),
+                    user.getWorkdayEnd() != null ? user.getWorkdayEnd() : fallback.end());
+        }
+        return profiles;
+    }
+
+    // Working hours are resolved once per request into a bitset over the candidate grid
+    static SlotScorer scorer(IntervalIndex[] participantIndexes, WorkingHoursMask.Profile[] profiles,
+                             Instant rangeStart, Instant rangeEnd, long durationMin, ScoringPolicies.Policy policy) {
+        long durationMs = Duration.ofMinutes(durationMin).toMillis();
+        WorkingHoursMask workingHours = WorkingHoursMask.build(profiles, rangeStart.toEpochMilli(), rangeEnd.toEpochMilli(),
+                durationMs, SLOT_STEP.toMillis());
+        return policy.scorer(participantIndexes, rangeStart.toEpochMilli(), durationMs, workingHours);
+    }
+
+    Instant bestSlot(IntervalIndex[] participantIndexes, WorkingHoursMask.Profile[] profiles,
+                     Instant rangeStart, Instant rangeEnd, long durationMin, ScoringPolicies.Policy policy) {
+        // Sweep the merged busy intervals and only visit grid starts that fit a free gap
+        Timer.Sample phase = Timer.start();
+        long[] candidates = candidateStarts(participantIndexes, rangeStart, rangeEnd, durationMin);
+        schedulerMetrics.stop(phase, SchedulerMetrics.Phase.SEARCH);
+        schedulerMetrics.recordCandidates(candidates.length);
+
+        // Score every candidate in one pass over primitive arrays
+        phase = Timer.start();
+        SlotScorer scorer = scorer(participantIndexes, profiles, rangeStart, rangeEnd, durationMin, policy);
+        int[] scores = new int[candidates.length];
+        int best;
+        if ((long) candidates.length * participantIndexes.length >= parallelThreshold) {
+            best = ParallelCandidateSearch.bestIndex(scoringPool, scorer, candidates, scores);
+        } else {
+            scorer.scoreAll(candidates, 0, candidates.length, scores);
+            best = CandidateScorer.bestIndex(scores, 0, candidates.length);
+        }
+        schedulerMetrics.stop(phase, SchedulerMetrics.Phase.SCORE);
+        return best < 0 ? null : Instant.ofEpochMilli(candidates[best]);
+    }
+
+    /** Read before loading the calendars, so cached terms are never keyed by a generation newer than their data. */
+    Map<String, Long> generations(Collection<String> participantIds) {
+        Map<String, Long> generations = new HashMap<>();
+        for (String userId : participantIds) {
+            generations.put(userId, freeBusyCache.generation(userId));
+        }
+        return generations;
+    }
+
+    /**
+     * Same ranking as {@link #bestSlot(IntervalIndex[], WorkingHoursMask.Profile[], Instant, Instant, long, ScoringPolicies.Policy)}
+     * for calendars loaded at {@code generations}. Each participant's gap terms over the range's grid come from
+     * {@link GapTermCache} and cover the whole calendar; a meeting being moved is left out by patching its interval
+     * {@code [ownStart, ownEnd)} out of them. Pass {@link IntervalIndex#NONE} when nothing is left out.
+     * Policies with their own scorer are searched without the cache.
+     */
+    Instant bestSlot(List<String> participantIds, Map<String, Long> generations, IntervalIndex[] calendars,
+                     WorkingHoursMask.Profile[] profiles, Instant rangeStart, Instant rangeEnd, long durationMin,
+                     ScoringPolicies.Policy policy, long ownStart, long ownEnd) {
+        IntervalIndex[] participantIndexes = calendars;
+        if (ownStart != IntervalIndex.NONE) {
+            participantIndexes = new IntervalIndex[calendars.length];
+            for (int p = 0; p < calendars.length; p++) {
+                participantIndexes[p] = calendars[p].without(ownStart, ownEnd);
+            }
+        }
+        if (!policy.separable()) {
+            return bestSlot(participantIndexes, profiles, rangeStart, rangeEnd, durationMin, policy);
+        }
+        Timer.Sample phase = Timer.start();
+        long[] candidates = candidateStarts(participantIndexes, rangeStart, rangeEnd, durationMin);
+        schedulerMetrics.stop(phase, SchedulerMetrics.Phase.SEARCH);
+        schedulerMetrics.recordCandidates(candidates.length);
+        if (candidates.length == 0) {
+            return null;
+        }
+
+        phase = Timer.start();
+        long durationMs = Duration.ofMinutes(durationMin).toMillis();
+        long gridStart = rangeStart.toEpochMilli();
+        long stepMs = SLOT_STEP.toMillis();
+        long[] grid = grid(rangeStart, rangeEnd, durationMs);
+        ScoringRules rules = policy.rules();
+        // A scorer without participants gives the earliness and working-hours terms
+        int[] scores = new int[candidates.length];
+        scorer(new IntervalIndex[0], profiles, rangeStart, rangeEnd, durationMin, policy).scoreAll(candidates, 0, candidates.length, scores);
+        int[][] terms = new int[calendars.length][];
+        IntervalIndex[] searched = participantIndexes;
+        IntConsumer lookUp = p -> {
+            String userId = participantIds.get(p);
+            int[] whole = gapTermCache.get(key(userId, generations.get(userId), rangeStart, rangeEnd, durationMs, rules),
+                    () -> CandidateScorer.gapTerms(calendars[p], grid, durationMs, rules));
+            terms[p] = ownStart == IntervalIndex.NONE ? whole
+                    : CandidateScorer.patchGapTerms(whole, searched[p], grid, durationMs, rules, ownStart, ownEnd);
+        };
+        if ((long) candidates.length * calendars.length >= parallelThreshold) {
+            scoringPool.submit(() -> IntStream.range(0, calendars.length).parallel().forEach(lookUp)).join();
+        } else {
+            IntStream.range(0, calendars.length).forEach(lookUp);
+        }
+        for (int[] participantTerms : terms) {
+            for (int i = 0; i < candidates.length; i++) {
+                scores[i] += participantTerms[(int) ((candidates[i] - gridStart) / stepMs)];
+            }
+        }
+        int best = CandidateScorer.bestIndex(scores, 0, candidates.length);
+        schedulerMetrics.stop(phase, SchedulerMetrics.Phase.SCORE);
+        return Instant.ofEpochMilli(candidates[best]);
+    }
+
+    /**
+     * After the caller committed a meeting at {@code [slotStart, slotEnd)}, moved there from {@code [ownStart, ownEnd)}
+     * or newly booked ({@link IntervalIndex#NONE}): caches each participant's terms for the new generation, derived
+     * from the ones the search used. Only valid while the participants' locks are still held and nobody else wrote
+     * to their calendars since they were loaded.
+     */
+    void remember(List<String> participantIds, Map<String, Long> generations, IntervalIndex[] calendars,
+                  Instant rangeStart, Instant rangeEnd, long durationMin, ScoringPolicies.Policy policy,
+                  long ownStart, long ownEnd, long slotStart, long slotEnd) {
+        if (!policy.separable()) {
+            return;
+        }
+        ScoringRules rules = policy.rules();
+        long durationMs = Duration.ofMinutes(durationMin).toMillis();
+        long[] grid = grid(rangeStart, rangeEnd, durationMs);
+        for (int p = 0; p < participantIds.size(); p++) {
+            String userId = participantIds.get(p);
+            IntervalIndex without = ownStart == IntervalIndex.NONE ? calendars[p] : calendars[p].without(ownStart, ownEnd);
+            IntervalIndex with = without.with(slotStart, slotEnd);
+            gapTermCache.derive(key(userId, generations.get(userId), rangeStart, rangeEnd, durationMs, rules),
+                    key(userId, freeBusyCache.generation(userId), rangeStart, rangeEnd, durationMs, rules), terms -> {
+                        int[] moved = ownStart == IntervalIndex.NONE ? terms
+                                : CandidateScorer.patchGapTerms(terms, without, grid, durationMs, rules, ownStart, ownEnd);
+                        return CandidateScorer.patchGapTerms(moved, with, grid, durationMs, rules, slotStart, slotEnd);
+                    });
+        }
+    }
+
+    private static GapTermCache.Key key(String userId, long generation, Instant rangeStart, Instant rangeEnd,
+                                        long durationMs, ScoringRules rules) {
+        return new GapTermCache.Key(userId, generation, rules, rangeStart.toEpochMilli(), rangeEnd.toEpochMilli(), durationMs);
+    }
+
+    // Every grid start in the range that leaves room for the duration
+    private static long[] grid(Instant rangeStart, Instant rangeEnd, long durationMs) {
+        long gridStart = rangeStart.toEpochMilli();
+        long stepMs = SLOT_STEP.toMillis();
+        long[] grid = new long[(int) ((rangeEnd.toEpochMilli() - gridStart - durationMs) / stepMs + 1)];
+        for (int k = 0; k < grid.length; k++) {
+            grid[k] = gridStart + k * stepMs;
+        }
+        return grid;
+    }
+
+    // Bit scans over the slot grid when the duration is a whole number of steps, the sweep otherwise
+    long[] candidateStarts(IntervalIndex[] participantIndexes, Instant rangeStart, Instant rangeEnd, long durationMin) {
+        long durationMs = Duration.ofMinutes(durationMin).toMillis();
+        if (bitmapEnabled) {
+            long[] candidates = AvailabilityBitmap.candidateStarts(participantIndexes,
+                    rangeStart.toEpochMilli(), rangeEnd.toEpochMilli(), durationMs, SLOT_STEP.toMillis());
+            if (candidates != null) {
+                return candidates;
+            }
+        }
+        return FreeSlotFinder.candidateStarts(Arrays.asList(participantIndexes),
+                rangeStart.toEpochMilli(), rangeEnd.toEpochMilli(), durationMs, SLOT_STEP.toMillis());
+    }
+}
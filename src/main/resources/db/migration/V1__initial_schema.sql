@@ -0,0 +1,44 @@
+-- Schema for the fast profile (spring.flyway.enabled=true, ddl-auto=none); keep in step with the entities
+CREATE TABLE users (
+    id            VARCHAR(255) PRIMARY KEY,
+    name          VARCHAR(255),
+    time_zone     VARCHAR(255),
+    workday_start TIME,
+    workday_end   TIME
+);
+
+CREATE TABLE meeting (
+    id         VARCHAR(255) PRIMARY KEY,
+    title      VARCHAR(255),
+    start_time TIMESTAMP(6) WITH TIME ZONE,
+    end_time   TIMESTAMP(6) WITH TIME ZONE
+);
+
+-- Pooled ids: Hibernate hands out 50 ids per round-trip
+CREATE SEQUENCE event_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE event (
+    id         BIGINT PRIMARY KEY,
+    title      VARCHAR(255),
+    start_time TIMESTAMP(6) WITH TIME ZONE,
+    end_time   TIMESTAMP(6) WITH TIME ZONE,
+    user_id    VARCHAR(255) REFERENCES users (id),
+    meeting_id VARCHAR(255) REFERENCES meeting (id)
+);
+CREATE INDEX idx_event_user_start ON event (user_id, start_time);
+CREATE INDEX idx_event_user_end ON event (user_id, end_time);
+
+CREATE TABLE recurring_event (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title            VARCHAR(255),
+    user_id          VARCHAR(255) REFERENCES users (id),
+    first_start      TIMESTAMP(6) WITH TIME ZONE,
+    duration_minutes INTEGER NOT NULL,
+    time_zone        VARCHAR(255),
+    frequency        VARCHAR(16),
+    repeat_interval  INTEGER NOT NULL,
+    weekdays         INTEGER NOT NULL,
+    repeat_until     TIMESTAMP(6) WITH TIME ZONE,
+    exception_dates  VARCHAR(4000)
+);
+CREATE INDEX idx_recurring_event_user ON recurring_event (user_id);
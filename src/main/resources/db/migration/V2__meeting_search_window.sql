@@ -0,0 +1,3 @@
+-- Search window of each booked meeting, used to re-place it when a participant's calendar changes
+ALTER TABLE meeting ADD COLUMN window_start TIMESTAMP(6) WITH TIME ZONE;
+ALTER TABLE meeting ADD COLUMN window_end TIMESTAMP(6) WITH TIME ZONE;
@@ -0,0 +1,124 @@
+// src/test/java/com/example/smartmeetingscheduler/AdmissionLimiterTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.config.AdmissionLimiter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionLimiterTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testLimitFollowsLatency() {
+        AdmissionLimiter limiter = new AdmissionLimiter(10, 2, 12, 100 * MS, 1000 * MS);
+        long now = 0;
+
+        // Slow responses back off, at most once per target latency
+        for (int round = 0; round < 40; round++) {
+            now += 150 * MS;
+            assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.tryAcquire("a", null, now));
+            limiter.release("a", null, 400 * MS, now);
+        }
+        assertEquals(2, limiter.stats().limit(), "Never below the minimum");
+        assertEquals(1, limiter.retryAfterSeconds());
+
+        // Fast responses grow it back, but only while the limit is actually in use
+        for (int round = 0; round < 200; round++) {
+            now += MS;
+            limiter.tryAcquire("a", null, now);
+            limiter.release("a", null, 5 * MS, now);
+        }
+        assertEquals(2, limiter.stats().limit(), "One request at a time does not need a higher limit");
+        for (int round = 0; round < 200; round++) {
+            now += MS;
+            int admitted = 0;
+            while (limiter.tryAcquire("caller-" + admitted, null, now) == AdmissionLimiter.Decision.ADMITTED) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.release("caller-" + i, null, 5 * MS, now);
+            }
+        }
+        assertEquals(12, limiter.stats().limit(), "Never above the maximum");
+        assertEquals(0, limiter.stats().inFlight());
+    }
+
+    @Test
+    void testBulkClientKeepsRoomForOthers() {
+        AdmissionLimiter limiter = new AdmissionLimiter(8, 1, 8, 100 * MS, 1000 * MS);
+        long now = 0;
+        for (int i = 0; i < 8; i++) {
+            assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.tryAcquire("bulk", null, now));
+        }
+        assertEquals(AdmissionLimiter.Decision.OVER_CLIENT_SHARE, limiter.tryAcquire("bulk", null, now), "Alone it may use the whole limit");
+
+        // An interactive caller shows up while the limit is full: it is turned away once, but now counts
+        assertEquals(AdmissionLimiter.Decision.OVER_LIMIT, limiter.tryAcquire("user", null, now));
+        limiter.release("bulk", null, 10 * MS, now);
+        assertEquals(AdmissionLimiter.Decision.OVER_CLIENT_SHARE, limiter.tryAcquire("bulk", null, now), "Bulk is capped at half");
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.tryAcquire("user", null, now));
+
+        // Once the interactive caller has been idle for a window, bulk gets the whole limit back
+        limiter.release("user", null, 10 * MS, now);
+        now += 2500 * MS;
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.tryAcquire("bulk", null, now));
+        AdmissionLimiter.Stats stats = limiter.stats();
+        assertEquals(8, stats.inFlight());
+        assertEquals(1, stats.rejectedOverLimit());
+        assertEquals(2, stats.rejectedOverClientShare());
+    }
+
+    @Test
+    void testCallerHoldingPermitsIsNotForgotten() {
+        AdmissionLimiter limiter = new AdmissionLimiter(8, 1, 8, 100 * MS, 1000 * MS);
+        long now = 0;
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.tryAcquire("slow", "report", now));
+
+        // Well past the fairness window, the slow request is still running and its caller still counts
+        now += 2500 * MS;
+        int admitted = 0;
+        for (int i = 0; i < 8; i++) {
+            if (limiter.tryAcquire("bulk", null, now) == AdmissionLimiter.Decision.ADMITTED) {
+                admitted++;
+            }
+        }
+        assertEquals(4, admitted, "Half of the limit while the slow caller holds a permit");
+
+        // Released and idle for a window, it is forgotten
+        limiter.release("slow", "report", 2500 * MS, now);
+        limiter.release("bulk", null, 10 * MS, now);
+        now += 2500 * MS;
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.tryAcquire("bulk", null, now));
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.tryAcquire("bulk", null, now));
+        assertEquals(5, limiter.stats().inFlight());
+    }
+
+    @Test
+    void testRotatingClientIdsShareTheCallersShare() {
+        AdmissionLimiter limiter = new AdmissionLimiter(8, 1, 8, 100 * MS, 1000 * MS);
+        long now = 0;
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.tryAcquire("interactive", null, now));
+
+        // A new id per request does not make a bulk caller more than one caller
+        int admitted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (limiter.tryAcquire("bulk", "id-" + i, now) == AdmissionLimiter.Decision.ADMITTED) {
+                admitted++;
+            }
+        }
+        assertEquals(4, admitted, "Half of the limit, as with a single id");
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, limiter.tryAcquire("interactive", null, now));
+
+        // Ids from one caller split its share between them
+        AdmissionLimiter split = new AdmissionLimiter(8, 1, 8, 100 * MS, 1000 * MS);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(AdmissionLimiter.Decision.ADMITTED, split.tryAcquire("office", "batch", now));
+        }
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, split.tryAcquire("office", "ui", now));
+        assertEquals(AdmissionLimiter.Decision.OVER_CLIENT_SHARE, split.tryAcquire("office", "batch", now),
+                "Two ids get half of the caller's share each");
+        assertEquals(AdmissionLimiter.Decision.ADMITTED, split.tryAcquire("office", "ui", now));
+    }
+}
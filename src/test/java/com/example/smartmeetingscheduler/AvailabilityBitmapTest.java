@@ -0,0 +1,52 @@
+// src/test/java/com/example/smartmeetingscheduler/AvailabilityBitmapTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.scheduling.AvailabilityBitmap;
+import com.example.smartmeetingscheduler.scheduling.FreeSlotFinder;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityBitmapTest {
+
+    @Test
+    void testMatchesSweepOnRandomCalendars() {
+        Random random = new Random(7);
+        for (int round = 0; round < 500; round++) {
+            long rangeStart = random.nextInt(50);
+            // Long ranges cross several words; durations up to 90 cells exercise word-sized shifts
+            long rangeEnd = rangeStart + random.nextInt(round % 5 == 0 ? 20_000 : 2_000);
+            long duration = 15L * (1 + random.nextInt(round % 7 == 0 ? 90 : 8));
+            IntervalIndex[] indexes = new IntervalIndex[1 + random.nextInt(6)];
+            for (int user = 0; user < indexes.length; user++) {
+                int n = random.nextInt(15);
+                long[] s = new long[n];
+                long[] e = new long[n];
+                for (int i = 0; i < n; i++) {
+                    s[i] = random.nextInt((int) (rangeEnd + 200)) - 100;
+                    e[i] = s[i] + 1 + random.nextInt(200);
+                }
+                indexes[user] = IntervalIndex.of(s, e, IntervalIndex.NONE, IntervalIndex.NONE);
+            }
+
+            long[] expected = FreeSlotFinder.candidateStarts(Arrays.asList(indexes), rangeStart, rangeEnd, duration, 15);
+            long[] actual = AvailabilityBitmap.candidateStarts(indexes, rangeStart, rangeEnd, duration, 15);
+            assertArrayEquals(expected, actual, "round " + round);
+        }
+    }
+
+    @Test
+    void testFallsBackOffTheGrid() {
+        IntervalIndex busy = IntervalIndex.of(new long[]{60}, new long[]{120}, IntervalIndex.NONE, IntervalIndex.NONE);
+        IntervalIndex instant = IntervalIndex.of(new long[]{30}, new long[]{30}, IntervalIndex.NONE, IntervalIndex.NONE);
+
+        assertNull(AvailabilityBitmap.candidateStarts(new IntervalIndex[]{busy}, 0, 300, 50, 15), "Duration not a whole step");
+        assertNull(AvailabilityBitmap.candidateStarts(new IntervalIndex[]{busy, instant}, 0, 300, 30, 15), "Zero-length interval");
+        assertArrayEquals(new long[]{0, 120, 135, 150, 165, 180},
+                AvailabilityBitmap.candidateStarts(new IntervalIndex[]{busy}, 0, 240, 60, 15));
+    }
+}
@@ -0,0 +1,265 @@
+// src/test/java/com/example/smartmeetingscheduler/CandidateScorerTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.scheduling.CandidateScorer;
+import com.example.smartmeetingscheduler.scheduling.FreeSlotFinder;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.ParallelCandidateSearch;
+import com.example.smartmeetingscheduler.scheduling.ScoringRules;
+import com.example.smartmeetingscheduler.scheduling.SlotScorer;
+import com.example.smartmeetingscheduler.scheduling.TopKSlotSearch;
+import com.example.smartmeetingscheduler.scheduling.WorkingHoursMask;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandidateScorerTest {
+
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    void testBackToBackAndBufferBonuses() {
+        long rangeStart = Instant.parse("2024-09-01T09:00:00Z").toEpochMilli();
+        IntervalIndex busy = IntervalIndex.of(
+                new long[]{rangeStart + 60 * MINUTE}, new long[]{rangeStart + 120 * MINUTE},
+                IntervalIndex.NONE, IntervalIndex.NONE);
+        CandidateScorer scorer = new CandidateScorer(new IntervalIndex[]{busy}, rangeStart, 60 * MINUTE);
+
+        // 09:00-10:00: earliest, working hours, back-to-back with the 10:00 event
+        assertEquals(100000 + 500 + 100, scorer.score(rangeStart));
+        // 11:00-12:00: 120 minutes later, working hours, back-to-back after the event
+        assertEquals(100000 - 120 + 500 + 100, scorer.score(rangeStart + 120 * MINUTE));
+    }
+
+    @Test
+    void testBulkScoresMatchPerCandidateReference() {
+        Random random = new Random(7);
+        for (int round = 0; round < 100; round++) {
+            long rangeStart = Instant.parse("2024-09-01T00:00:00Z").toEpochMilli() + random.nextInt(96) * 15 * MINUTE;
+            long rangeEnd = rangeStart + (120 + random.nextInt(3000)) * MINUTE;
+            long duration = (15 + random.nextInt(8) * 15) * MINUTE;
+            IntervalIndex[] indexes = new IntervalIndex[1 + random.nextInt(4)];
+            for (int u = 0; u < indexes.length; u++) {
+                int n = random.nextInt(15);
+                long[] s = new long[n];
+                long[] e = new long[n];
+                for (int i = 0; i < n; i++) {
+                    s[i] = rangeStart + (random.nextInt(3200) - 100) * MINUTE + random.nextInt(60) * 1000L;
+                    e[i] = s[i] + random.nextInt(180) * MINUTE;
+                }
+                long floorEnd = random.nextBoolean() ? rangeStart - random.nextInt(500) * MINUTE : IntervalIndex.NONE;
+                long ceilStart = random.nextBoolean() ? rangeEnd + random.nextInt(500) * MINUTE : IntervalIndex.NONE;
+                indexes[u] = IntervalIndex.of(s, e, floorEnd, ceilStart);
+            }
+
+            long[] candidates = FreeSlotFinder.candidateStarts(Arrays.asList(indexes), rangeStart, rangeEnd, duration, 15 * MINUTE);
+            int[] scores = new int[candidates.length];
+            new CandidateScorer(indexes, rangeStart, duration).scoreAll(candidates, 0, candidates.length, scores);
+
+            for (int i = 0; i < candidates.length; i++) {
+                assertEquals(referenceScore(indexes, candidates[i], candidates[i] + duration, rangeStart), scores[i],
+                        "Round " + round + " candidate " + i);
+            }
+        }
+    }
+
+    @Test
+    void testGapTermsAddUpToParticipantScores() {
+        Random random = new Random(11);
+        long rangeStart = Instant.parse("2024-09-02T00:00:00Z").toEpochMilli();
+        long duration = 45 * MINUTE;
+        IntervalIndex[] indexes = new IntervalIndex[3];
+        for (int u = 0; u < indexes.length; u++) {
+            long[] s = new long[20];
+            long[] e = new long[20];
+            for (int i = 0; i < s.length; i++) {
+                s[i] = rangeStart + random.nextInt(2800) * MINUTE;
+                e[i] = s[i] + (15 + random.nextInt(120)) * MINUTE;
+            }
+            indexes[u] = IntervalIndex.of(s, e, rangeStart - 30 * MINUTE, IntervalIndex.NONE);
+        }
+        long[] candidates = FreeSlotFinder.candidateStarts(Arrays.asList(indexes), rangeStart,
+                rangeStart + 2880 * MINUTE, duration, 15 * MINUTE);
+
+        int[] expected = new int[candidates.length];
+        new CandidateScorer(indexes, rangeStart, duration).scoreAll(candidates, 0, candidates.length, expected);
+        // What rescheduling does: participant-free base plus each participant's (cacheable) terms
+        int[] actual = new int[candidates.length];
+        WorkingHoursMask workingHours = WorkingHoursMask.direct(new WorkingHoursMask.Profile[]{
+                WorkingHoursMask.Profile.DEFAULT, WorkingHoursMask.Profile.DEFAULT, WorkingHoursMask.Profile.DEFAULT}, duration);
+        new CandidateScorer(new IntervalIndex[0], rangeStart, duration, workingHours)
+                .scoreAll(candidates, 0, candidates.length, actual);
+        for (IntervalIndex index : indexes) {
+            int[] terms = CandidateScorer.gapTerms(index, candidates, duration, ScoringRules.DEFAULT);
+            for (int i = 0; i < candidates.length; i++) {
+                actual[i] += terms[i];
+            }
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testPatchedGapTermsMatchRecomputedOnFreeStarts() {
+        long rangeStart = Instant.parse("2024-09-01T00:00:00Z").toEpochMilli();
+        long duration = 45 * MINUTE;
+        long[] grid = new long[2 * 96];
+        for (int k = 0; k < grid.length; k++) {
+            grid[k] = rangeStart + k * 15 * MINUTE;
+        }
+        Random random = new Random(5);
+        for (int round = 0; round < 200; round++) {
+            long[] s = new long[12];
+            long[] e = new long[12];
+            for (int i = 0; i < s.length; i++) {
+                s[i] = rangeStart + random.nextInt(2 * 96) * 15 * MINUTE;
+                e[i] = s[i] + (1 + random.nextInt(6)) * 15 * MINUTE;
+            }
+            IntervalIndex calendar = IntervalIndex.of(s, e, rangeStart - 60 * MINUTE, rangeStart + 3 * 24 * 60 * MINUTE);
+            int moved = random.nextInt(s.length);
+            IntervalIndex without = calendar.without(s[moved], e[moved]);
+            int[] full = CandidateScorer.gapTerms(calendar, grid, duration, ScoringRules.DEFAULT);
+            int[] partial = CandidateScorer.gapTerms(without, grid, duration, ScoringRules.DEFAULT);
+
+            int[] removed = CandidateScorer.patchGapTerms(full, without, grid, duration, ScoringRules.DEFAULT, s[moved], e[moved]);
+            int[] added = CandidateScorer.patchGapTerms(partial, calendar, grid, duration, ScoringRules.DEFAULT, s[moved], e[moved]);
+            for (int k = 0; k < grid.length; k++) {
+                if (!without.overlaps(grid[k], grid[k] + duration)) {
+                    assertEquals(partial[k], removed[k], "removed, round " + round + ", start " + k);
+                }
+                if (!calendar.overlaps(grid[k], grid[k] + duration)) {
+                    assertEquals(full[k], added[k], "added, round " + round + ", start " + k);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testParallelSearchMatchesSerial() {
+        long rangeStart = Instant.parse("2024-09-01T00:00:00Z").toEpochMilli();
+        long rangeEnd = rangeStart + 60L * 24 * 60 * MINUTE; // 60 days, ~5700 candidates
+        long duration = 30 * MINUTE;
+        Random random = new Random(11);
+        IntervalIndex[] indexes = new IntervalIndex[3];
+        for (int u = 0; u < indexes.length; u++) {
+            long[] s = new long[400];
+            long[] e = new long[400];
+            for (int i = 0; i < s.length; i++) {
+                s[i] = rangeStart + random.nextInt(60 * 24 * 4) * 15 * MINUTE;
+                e[i] = s[i] + (1 + random.nextInt(8)) * 15 * MINUTE;
+            }
+            indexes[u] = IntervalIndex.of(s, e, IntervalIndex.NONE, IntervalIndex.NONE);
+        }
+        long[] candidates = FreeSlotFinder.candidateStarts(Arrays.asList(indexes), rangeStart, rangeEnd, duration, 15 * MINUTE);
+        CandidateScorer scorer = new CandidateScorer(indexes, rangeStart, duration);
+
+        int[] serialScores = new int[candidates.length];
+        scorer.scoreAll(candidates, 0, candidates.length, serialScores);
+        int serialBest = CandidateScorer.bestIndex(serialScores, 0, candidates.length);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int[] parallelScores = new int[candidates.length];
+            int parallelBest = ParallelCandidateSearch.bestIndex(pool, scorer, candidates, parallelScores);
+            assertArrayEquals(serialScores, parallelScores);
+            assertEquals(serialBest, parallelBest, "Parallel reduction must pick the same earliest best slot");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testTopKMatchesFullRankingAndStopsEarly() {
+        long rangeStart = Instant.parse("2024-09-01T00:00:00Z").toEpochMilli();
+        long rangeEnd = rangeStart + 30L * 24 * 60 * MINUTE;
+        long duration = 60 * MINUTE;
+        Random random = new Random(5);
+        IntervalIndex[] indexes = new IntervalIndex[4];
+        for (int u = 0; u < indexes.length; u++) {
+            long[] s = new long[150];
+            long[] e = new long[150];
+            for (int i = 0; i < s.length; i++) {
+                s[i] = rangeStart + random.nextInt(30 * 24 * 4) * 15 * MINUTE;
+                e[i] = s[i] + (1 + random.nextInt(6)) * 15 * MINUTE;
+            }
+            indexes[u] = IntervalIndex.of(s, e, IntervalIndex.NONE, IntervalIndex.NONE);
+        }
+        long[] candidates = FreeSlotFinder.candidateStarts(Arrays.asList(indexes), rangeStart, rangeEnd, duration, 15 * MINUTE);
+        CandidateScorer scorer = new CandidateScorer(indexes, rangeStart, duration);
+        int[] scores = new int[candidates.length];
+        scorer.scoreAll(candidates, 0, candidates.length, scores);
+
+        // Reference: stable sort of every candidate by descending score
+        Integer[] ranking = new Integer[candidates.length];
+        for (int i = 0; i < ranking.length; i++) {
+            ranking[i] = i;
+        }
+        Arrays.sort(ranking, (a, b) -> Integer.compare(scores[b], scores[a]));
+
+        for (int k : new int[]{1, 5, 20}) {
+            TopKSlotSearch.Result result = TopKSlotSearch.topK(scorer, candidates, k);
+            assertEquals(k, result.best().length);
+            for (int i = 0; i < k; i++) {
+                assertEquals((int) ranking[i], result.best()[i], "k=" + k + " rank " + i);
+            }
+            assertTrue(result.scored() < candidates.length, "Search should stop before scoring every candidate");
+        }
+        assertEquals((int) ranking[0], CandidateScorer.bestIndex(scores, 0, candidates.length));
+    }
+
+    @Test
+    void testExplainAndUpperBound() {
+        long rangeStart = Instant.parse("2024-09-01T09:00:00Z").toEpochMilli();
+        IntervalIndex busy = IntervalIndex.of(
+                new long[]{rangeStart + 60 * MINUTE}, new long[]{rangeStart + 120 * MINUTE},
+                rangeStart - 30 * MINUTE, IntervalIndex.NONE);
+        CandidateScorer scorer = new CandidateScorer(new IntervalIndex[]{busy}, rangeStart, 60 * MINUTE);
+
+        for (long start = rangeStart; start < rangeStart + 600 * MINUTE; start += 15 * MINUTE) {
+            SlotScorer.Breakdown breakdown = scorer.explain(start);
+            assertEquals(scorer.score(start), breakdown.total());
+            assertEquals(breakdown.total(), breakdown.earliness() + breakdown.workingHours() + breakdown.gaps());
+            assertTrue(scorer.upperBound(start) >= breakdown.total());
+        }
+        SlotScorer.Breakdown first = scorer.explain(rangeStart);
+        assertEquals(100000, first.earliness());
+        assertEquals(500, first.workingHours());
+        assertEquals(25 + 100, first.gaps(), "30 minutes after the previous event, back-to-back with the next");
+    }
+
+    // The original Instant/Duration based heuristics, evaluated against the same indexes. Working hours
+    // follow the corrected rule: the whole slot inside 09:00-17:00 UTC of the day it starts
+    private static int referenceScore(IntervalIndex[] indexes, long startMs, long endMs, long rangeStartMs) {
+        Instant start = Instant.ofEpochMilli(startMs);
+        Instant end = Instant.ofEpochMilli(endMs);
+        int score = 0;
+        score += 100000 - Duration.between(Instant.ofEpochMilli(rangeStartMs), start).toMinutes();
+        ZonedDateTime startZdt = start.atZone(ZoneId.of("UTC"));
+        ZonedDateTime endZdt = end.atZone(ZoneId.of("UTC"));
+        if (startZdt.getHour() >= 9 && !endZdt.isAfter(startZdt.toLocalDate().atTime(17, 0).atZone(ZoneId.of("UTC")))) {
+            score += 500;
+        }
+        for (IntervalIndex index : indexes) {
+            long prevEnd = index.maxEndAtOrBefore(startMs);
+            long nextStart = index.minStartAtOrAfter(endMs);
+            if (prevEnd != IntervalIndex.NONE) {
+                long gap = Duration.between(Instant.ofEpochMilli(prevEnd), start).toMinutes();
+                score += gap == 0 ? 100 : gap < 30 ? -50 : gap >= 60 ? 50 : 0;
+                score += gap >= 15 ? 25 : 0;
+            }
+            if (nextStart != IntervalIndex.NONE) {
+                long gap = Duration.between(end, Instant.ofEpochMilli(nextStart)).toMinutes();
+                score += gap == 0 ? 100 : gap < 30 ? -50 : gap >= 60 ? 50 : 0;
+                score += gap >= 15 ? 25 : 0;
+            }
+        }
+        return score;
+    }
+}
@@ -1,19 +1,40 @@
 // src/test/java/com/example/smartmeetingscheduler/EventServiceTest.java
 package com.example.smartmeetingscheduler;
 
+import com.example.smartmeetingscheduler.dto.BatchItemResult;
+import com.example.smartmeetingscheduler.dto.BatchScheduleRequest;
+import com.example.smartmeetingscheduler.dto.BatchScheduleResponse;
+import com.example.smartmeetingscheduler.dto.EventDto;
+import com.example.smartmeetingscheduler.dto.EventUpdateRequest;
+import com.example.smartmeetingscheduler.dto.EventUpdateResponse;
 import com.example.smartmeetingscheduler.dto.MeetingResponse;
+import com.example.smartmeetingscheduler.dto.RecurringEventDto;
 import com.example.smartmeetingscheduler.dto.ScheduleRequest;
+import com.example.smartmeetingscheduler.dto.SlotSuggestion;
 import com.example.smartmeetingscheduler.entities.Event;
 import com.example.smartmeetingscheduler.entities.User;
 import com.example.smartmeetingscheduler.repositories.EventRepository;
+import com.example.smartmeetingscheduler.repositories.MeetingRepository;
+import com.example.smartmeetingscheduler.repositories.RecurringEventRepository;
 import com.example.smartmeetingscheduler.repositories.UserRepository;
+import com.example.smartmeetingscheduler.scheduling.FreeBusyCache;
+import com.example.smartmeetingscheduler.scheduling.GapTermCache;
+import com.example.smartmeetingscheduler.scheduling.RecurrenceRule;
+import com.example.smartmeetingscheduler.services.BatchScheduleService;
 import com.example.smartmeetingscheduler.services.EventService;
+import com.example.smartmeetingscheduler.services.RecurringEventService;
+import com.example.smartmeetingscheduler.services.RescheduleService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -26,15 +47,40 @@ class EventServiceTest {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private BatchScheduleService batchScheduleService;
+
+    @Autowired
+    private RecurringEventService recurringEventService;
+
+    @Autowired
+    private RescheduleService rescheduleService;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RecurringEventRepository recurringEventRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private GapTermCache gapTermCache;
+
+    @Autowired
+    private FreeBusyCache freeBusyCache;
+
     @BeforeEach
     void setUp() {
         eventRepository.deleteAll();
+        recurringEventRepository.deleteAll();
         userRepository.deleteAll();
 
         User user1 = new User("test1", "Test User 1");
@@ -77,6 +123,277 @@ class EventServiceTest {
         }, "Should throw exception when no slot is available");
     }
 
+    @Test
+    void testBookingPersistsMeeting() throws InterruptedException, ExecutionException {
+        userRepository.save(new User("test2", "Test User 2"));
+        ScheduleRequest request = new ScheduleRequest();
+        request.setParticipantIds(List.of("test1", "test2"));
+        request.setDurationMinutes(30);
+        ScheduleRequest.TimeRange timeRange = new ScheduleRequest.TimeRange();
+        timeRange.setStart("2024-09-02T09:00:00Z");
+        timeRange.setEnd("2024-09-02T17:00:00Z");
+        request.setTimeRange(timeRange);
+
+        MeetingResponse response = eventService.scheduleMeeting(request).get();
+
+        assertTrue(meetingRepository.existsById(response.getMeetingId()), "Meeting should be persisted");
+        assertEquals(2, eventRepository.countOverlappingForUsers(List.of("test1", "test2"),
+                Instant.parse(response.getStartTime()), Instant.parse(response.getEndTime())),
+                "One event per participant should be booked");
+    }
+
+    @Test
+    void testSchedulingRecordsPhaseMetrics() throws InterruptedException, ExecutionException {
+        long persistsBefore = meterRegistry.get("scheduler.phase").tag("phase", "persist").timer().count();
+        long requestsBefore = meterRegistry.get("scheduler.request.queries").summary().count();
+
+        ScheduleRequest request = new ScheduleRequest();
+        request.setParticipantIds(List.of("test1"));
+        request.setDurationMinutes(30);
+        ScheduleRequest.TimeRange timeRange = new ScheduleRequest.TimeRange();
+        timeRange.setStart("2024-09-03T09:00:00Z");
+        timeRange.setEnd("2024-09-03T17:00:00Z");
+        request.setTimeRange(timeRange);
+        eventService.scheduleMeeting(request).get();
+
+        assertEquals(persistsBefore + 1, meterRegistry.get("scheduler.phase").tag("phase", "persist").timer().count());
+        assertEquals(requestsBefore + 1, meterRegistry.get("scheduler.request.queries").summary().count());
+        assertTrue(meterRegistry.get("scheduler.request.queries").summary().max() > 0, "Queries should be counted");
+    }
+
+    @Test
+    void testScheduleBatchPlacesAgainstWorkingCalendar() throws InterruptedException, ExecutionException {
+        userRepository.save(new User("test2", "Test User 2"));
+        BatchScheduleRequest batch = new BatchScheduleRequest();
+        batch.setRequests(List.of(
+                batchItem(List.of("test1", "test2")),
+                batchItem(List.of("test2")),
+                batchItem(List.of("missing")),
+                batchItem(List.of("test1", "test2"))));
+
+        BatchScheduleResponse response = batchScheduleService.scheduleBatch(batch).get();
+
+        assertEquals(2, response.getScheduled());
+        assertEquals(2, response.getFailed());
+        List<BatchItemResult> results = response.getResults();
+        assertEquals(BatchItemResult.Status.SCHEDULED, results.get(0).getStatus());
+        assertEquals(BatchItemResult.Status.SCHEDULED, results.get(1).getStatus());
+        assertEquals("One or more users not found", results.get(2).getError());
+        assertEquals(BatchItemResult.Status.FAILED, results.get(3).getStatus(), "test2 has no time left");
+        assertNotEquals(results.get(0).getMeeting().getStartTime(), results.get(1).getMeeting().getStartTime(),
+                "Later items must see earlier placements");
+        assertEquals(2, eventRepository.countOverlappingForUsers(List.of("test2"),
+                Instant.parse("2024-09-05T09:00:00Z"), Instant.parse("2024-09-05T11:00:00Z")));
+    }
+
+    @Test
+    void testScheduleBatchLoadsOnlyTheItemsOwnWindows() throws InterruptedException, ExecutionException {
+        freeBusyCache.clear();
+        ScheduleRequest january = batchItem(List.of("test1"));
+        january.getTimeRange().setStart("2025-01-06T09:00:00Z");
+        january.getTimeRange().setEnd("2025-01-06T11:00:00Z");
+        ScheduleRequest december = batchItem(List.of("test1"));
+        december.getTimeRange().setStart("2025-12-08T09:00:00Z");
+        december.getTimeRange().setEnd("2025-12-08T11:00:00Z");
+        BatchScheduleRequest batch = new BatchScheduleRequest();
+        batch.setRequests(List.of(january, december));
+
+        BatchScheduleResponse response = batchScheduleService.scheduleBatch(batch).get();
+
+        assertEquals(2, response.getScheduled());
+        assertEquals("2025-12-08T09:00:00Z", response.getResults().get(1).getMeeting().getStartTime());
+        assertTrue(freeBusyCache.stats().size() <= 4, "One day bucket per item, not the eleven months between them");
+    }
+
+    // One hour meeting in a two hour window, so the window holds at most two of them
+    private static ScheduleRequest batchItem(List<String> participantIds) {
+        ScheduleRequest request = new ScheduleRequest();
+        request.setParticipantIds(participantIds);
+        request.setDurationMinutes(60);
+        ScheduleRequest.TimeRange timeRange = new ScheduleRequest.TimeRange();
+        timeRange.setStart("2024-09-05T09:00:00Z");
+        timeRange.setEnd("2024-09-05T11:00:00Z");
+        request.setTimeRange(timeRange);
+        return request;
+    }
+
+    @Test
+    void testSuggestSlotsRanksWithoutBooking() throws InterruptedException, ExecutionException {
+        ScheduleRequest request = new ScheduleRequest();
+        request.setParticipantIds(List.of("test1"));
+        request.setDurationMinutes(60);
+        ScheduleRequest.TimeRange timeRange = new ScheduleRequest.TimeRange();
+        timeRange.setStart("2024-09-01T09:00:00Z");
+        timeRange.setEnd("2024-09-01T17:00:00Z");
+        request.setTimeRange(timeRange);
+
+        List<SlotSuggestion> suggestions = eventService.suggestSlots(request, 3).get();
+
+        assertEquals(3, suggestions.size());
+        assertEquals("2024-09-01T09:00:00Z", suggestions.get(0).getStartTime(), "Back-to-back before the existing meeting");
+        for (int i = 0; i < suggestions.size(); i++) {
+            SlotSuggestion suggestion = suggestions.get(i);
+            assertEquals(suggestion.getScore(), suggestion.getEarliness() + suggestion.getWorkingHours() + suggestion.getGaps());
+            if (i > 0) {
+                assertTrue(suggestions.get(i - 1).getScore() >= suggestion.getScore(), "Best first");
+            }
+        }
+        assertEquals(1, eventRepository.count(), "Suggestions must not book anything");
+    }
+
+    @Test
+    void testWorkingHoursFollowParticipantTimeZone() throws InterruptedException, ExecutionException {
+        User tokyo = new User("test2", "Test User 2");
+        tokyo.setTimeZone("Asia/Tokyo");
+        userRepository.save(tokyo);
+
+        ScheduleRequest request = new ScheduleRequest();
+        request.setDurationMinutes(60);
+        ScheduleRequest.TimeRange timeRange = new ScheduleRequest.TimeRange();
+        timeRange.setStart("2024-09-02T07:00:00Z");
+        timeRange.setEnd("2024-09-02T12:00:00Z");
+        request.setTimeRange(timeRange);
+
+        request.setParticipantIds(List.of("test2"));
+        SlotSuggestion tokyoBest = eventService.suggestSlots(request, 1).get().get(0);
+        assertEquals("2024-09-02T07:00:00Z", tokyoBest.getStartTime(), "16:00-17:00 in Tokyo");
+        assertEquals(500, tokyoBest.getWorkingHours());
+
+        request.setParticipantIds(List.of("test1"));
+        assertEquals("2024-09-02T09:00:00Z", eventService.suggestSlots(request, 1).get().get(0).getStartTime(),
+                "UTC participant waits for 09:00");
+    }
+
+    @Test
+    void testRecurringSeriesBlocksSchedulingWithoutStoringInstances() throws InterruptedException, ExecutionException {
+        RecurringEventDto standup = new RecurringEventDto();
+        standup.setTitle("Standup");
+        standup.setFirstStart("2024-08-26T09:00:00Z");
+        standup.setDurationMinutes(60);
+        standup.setFrequency(RecurrenceRule.Frequency.WEEKLY);
+        standup.setDaysOfWeek(List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY));
+        standup.setExceptionDates(List.of("2024-09-03"));
+        recurringEventService.createRecurringEvent("test1", standup).get();
+
+        ScheduleRequest request = new ScheduleRequest();
+        request.setParticipantIds(List.of("test1"));
+        request.setDurationMinutes(60);
+        ScheduleRequest.TimeRange timeRange = new ScheduleRequest.TimeRange();
+        timeRange.setStart("2024-09-02T09:00:00Z");
+        timeRange.setEnd("2024-09-02T17:00:00Z");
+        request.setTimeRange(timeRange);
+        assertEquals("2024-09-02T10:00:00Z", eventService.scheduleMeeting(request).get().getStartTime(),
+                "Monday's occurrence is busy");
+
+        timeRange.setStart("2024-09-03T09:00:00Z");
+        timeRange.setEnd("2024-09-03T17:00:00Z");
+        assertEquals("2024-09-03T09:00:00Z", eventService.scheduleMeeting(request).get().getStartTime(),
+                "Tuesday's occurrence is an exception");
+
+        List<EventDto> calendar = eventService.getUserCalendar("test1", "2024-09-02T00:00:00Z", "2024-09-03T23:59:59Z").get();
+        assertEquals(List.of("Standup", "New Meeting", "New Meeting"), calendar.stream().map(EventDto::getTitle).toList());
+        assertEquals(1, recurringEventRepository.count());
+        assertEquals(3, eventRepository.count(), "Occurrences are never stored as events");
+    }
+
+    @Test
+    void testMovingEventReschedulesOnlyTheCollidingMeeting() throws InterruptedException, ExecutionException {
+        User user2 = userRepository.save(new User("test2", "Test User 2"));
+        ScheduleRequest request = new ScheduleRequest();
+        request.setParticipantIds(List.of("test1", "test2"));
+        request.setDurationMinutes(60);
+        ScheduleRequest.TimeRange timeRange = new ScheduleRequest.TimeRange();
+        timeRange.setStart("2024-09-02T09:00:00Z");
+        timeRange.setEnd("2024-09-02T17:00:00Z");
+        request.setTimeRange(timeRange);
+        MeetingResponse meeting = eventService.scheduleMeeting(request).get();
+        assertEquals("2024-09-02T09:00:00Z", meeting.getStartTime());
+        Event dentist = eventRepository.save(new Event("Dentist", Instant.parse("2024-09-02T15:00:00Z"),
+                Instant.parse("2024-09-02T16:00:00Z"), user2));
+
+        EventUpdateRequest update = new EventUpdateRequest();
+        update.setStartTime("2024-09-02T09:00:00Z");
+        update.setEndTime("2024-09-02T10:00:00Z");
+        EventUpdateResponse response = rescheduleService.updateEvent(dentist.getId(), update).get();
+
+        assertEquals("Dentist", response.getTitle());
+        assertEquals(1, response.getRescheduled().size());
+        assertTrue(response.getUnresolved().isEmpty());
+        MeetingResponse moved = response.getRescheduled().get(0);
+        assertEquals(meeting.getMeetingId(), moved.getMeetingId());
+        assertEquals("2024-09-02T10:00:00Z", moved.getStartTime(), "Next free slot in the original window");
+        assertEquals(Instant.parse("2024-09-02T10:00:00Z"), meetingRepository.findById(meeting.getMeetingId()).get().getStartTime());
+        assertEquals(1, eventRepository.countOverlappingForUsers(List.of("test1", "test2"),
+                Instant.parse("2024-09-02T09:00:00Z"), Instant.parse("2024-09-02T10:00:00Z")),
+                "Only the moved event is left at 09:00");
+
+        for (Event event : eventRepository.findByMeetingId(meeting.getMeetingId())) {
+            rescheduleService.cancelEvent(event.getId()).get();
+        }
+        assertFalse(meetingRepository.existsById(meeting.getMeetingId()), "Last participant leaving cancels the meeting");
+    }
+
+    @Test
+    void testReschedulingReusesGapTermsOfSharedParticipants() throws InterruptedException, ExecutionException {
+        User user2 = userRepository.save(new User("test2", "Test User 2"));
+        ScheduleRequest request = new ScheduleRequest();
+        request.setParticipantIds(List.of("test1", "test2"));
+        request.setDurationMinutes(60);
+        ScheduleRequest.TimeRange timeRange = new ScheduleRequest.TimeRange();
+        timeRange.setStart("2024-09-02T09:00:00Z");
+        timeRange.setEnd("2024-09-02T17:00:00Z");
+        request.setTimeRange(timeRange);
+        MeetingResponse first = eventService.scheduleMeeting(request).get();
+        MeetingResponse second = eventService.scheduleMeeting(request).get();
+        assertEquals("2024-09-02T10:00:00Z", second.getStartTime());
+        Event dentist = eventRepository.save(new Event("Dentist", Instant.parse("2024-09-02T15:00:00Z"),
+                Instant.parse("2024-09-02T16:00:00Z"), user2));
+
+        long hitsBefore = gapTermCache.stats().hits();
+        EventUpdateRequest update = new EventUpdateRequest();
+        update.setStartTime("2024-09-02T09:00:00Z");
+        update.setEndTime("2024-09-02T11:00:00Z");
+        EventUpdateResponse response = rescheduleService.updateEvent(dentist.getId(), update).get();
+
+        assertEquals(List.of(first.getMeetingId(), second.getMeetingId()),
+                response.getRescheduled().stream().map(MeetingResponse::getMeetingId).toList());
+        assertEquals("2024-09-02T11:00:00Z", response.getRescheduled().get(0).getStartTime());
+        assertEquals("2024-09-02T12:00:00Z", response.getRescheduled().get(1).getStartTime());
+        assertTrue(gapTermCache.stats().hits() > hitsBefore,
+                "Terms from the bookings and from the first move are reused instead of recomputed");
+    }
+
+    @Test
+    void testConcurrentBookingsDoNotDoubleBook() throws InterruptedException {
+        // Only 09:00-10:00 is free in this window, so exactly one of the concurrent requests can win it
+        ScheduleRequest request = new ScheduleRequest();
+        request.setParticipantIds(List.of("test1"));
+        request.setDurationMinutes(60);
+        ScheduleRequest.TimeRange timeRange = new ScheduleRequest.TimeRange();
+        timeRange.setStart("2024-09-01T09:00:00Z");
+        timeRange.setEnd("2024-09-01T11:00:00Z");
+        request.setTimeRange(timeRange);
+
+        List<CompletableFuture<MeetingResponse>> futures = List.of(
+                eventService.scheduleMeeting(request),
+                eventService.scheduleMeeting(request),
+                eventService.scheduleMeeting(request));
+        int booked = 0;
+        for (CompletableFuture<MeetingResponse> future : futures) {
+            try {
+                future.get();
+                booked++;
+            } catch (ExecutionException e) {
+                // Losers see a 409 once re-validation finds the slot taken
+            }
+        }
+
+        assertEquals(1, booked, "Exactly one concurrent request should book the only free slot");
+        assertEquals(1, eventRepository.countOverlappingForUsers(List.of("test1"),
+                Instant.parse("2024-09-01T09:00:00Z"), Instant.parse("2024-09-01T10:00:00Z")),
+                "The slot must not be double-booked");
+    }
+
     @Test
     void testGetUserCalendar() throws InterruptedException, ExecutionException {
         CompletableFuture<List<com.example.smartmeetingscheduler.dto.EventDto>> future = eventService.getUserCalendar(
@@ -89,4 +406,65 @@ class EventServiceTest {
         assertEquals("2024-09-01T10:00:00Z", events.get(0).getStartTime(), "Event start time should match");
         assertEquals("2024-09-01T11:00:00Z", events.get(0).getEndTime(), "Event end time should match");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStreamUserCalendarPagesWithCursor() throws Exception {
+        User user1 = userRepository.findById("test1").orElseThrow();
+        eventRepository.save(new Event("Second Meeting", Instant.parse("2024-09-01T13:00:00Z"), Instant.parse("2024-09-01T14:00:00Z"), user1));
+
+        ByteArrayOutputStream firstPage = new ByteArrayOutputStream();
+        eventService.streamUserCalendar("test1", "2024-09-01T00:00:00Z", "2024-09-01T23:59:59Z", null, 1).writeTo(firstPage);
+        String[] firstLines = firstPage.toString(StandardCharsets.UTF_8).trim().split("\n");
+        assertEquals(1, firstLines.length, "Limit should cap the page");
+        assertTrue(firstLines[0].contains("Existing Meeting"));
+
+        String cursor = firstLines[0].replaceAll(".*\"cursor\":\"([^\"]+)\".*", "$1");
+        ByteArrayOutputStream secondPage = new ByteArrayOutputStream();
+        eventService.streamUserCalendar("test1", "2024-09-01T00:00:00Z", "2024-09-01T23:59:59Z", cursor, null).writeTo(secondPage);
+        String[] secondLines = secondPage.toString(StandardCharsets.UTF_8).trim().split("\n");
+        assertEquals(1, secondLines.length, "Second page should resume after the cursor");
+        assertTrue(secondLines[0].contains("Second Meeting"));
+    }
+
+    @Test
+    void testStreamUserCalendarPagesPastSubMillisecondStart() throws Exception {
+        User user1 = userRepository.findById("test1").orElseThrow();
+        eventRepository.save(new Event("Precise Meeting", Instant.parse("2024-09-01T12:00:00.000123Z"),
+                Instant.parse("2024-09-01T12:30:00Z"), user1));
+        eventRepository.save(new Event("Second Meeting", Instant.parse("2024-09-01T13:00:00Z"), Instant.parse("2024-09-01T14:00:00Z"), user1));
+
+        String cursor = null;
+        List<String> titles = new ArrayList<>();
+        for (int page = 0; page < 4; page++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            eventService.streamUserCalendar("test1", "2024-09-01T00:00:00Z", "2024-09-01T23:59:59Z", cursor, 1).writeTo(out);
+            String body = out.toString(StandardCharsets.UTF_8).trim();
+            if (body.isEmpty()) {
+                break;
+            }
+            titles.add(body.replaceAll(".*\"title\":\"([^\"]+)\".*", "$1"));
+            cursor = body.replaceAll(".*\"cursor\":\"([^\"]+)\".*", "$1");
+        }
+        assertEquals(List.of("Existing Meeting", "Precise Meeting", "Second Meeting"), titles,
+                "Each row once, even with a sub-millisecond start");
+    }
+
+    @Test
+    void testStreamUserCalendarResumesDailySeriesFromCursor() throws Exception {
+        RecurringEventDto standup = new RecurringEventDto();
+        standup.setTitle("Standup");
+        standup.setFirstStart("2020-01-01T08:00:00Z");
+        standup.setDurationMinutes(15);
+        standup.setFrequency(RecurrenceRule.Frequency.DAILY);
+        standup.setExceptionDates(List.of("2024-09-02"));
+        recurringEventService.createRecurringEvent("test1", standup).get();
+
+        String cursor = "2024-09-01T11:00:00Z_0";
+        ByteArrayOutputStream page = new ByteArrayOutputStream();
+        eventService.streamUserCalendar("test1", "2020-01-01T00:00:00Z", "2030-01-01T00:00:00Z", cursor, 2).writeTo(page);
+        String[] lines = page.toString(StandardCharsets.UTF_8).trim().split("\n");
+        assertEquals(2, lines.length, "Limit should cap the page");
+        assertTrue(lines[0].contains("2024-09-03T08:00:00Z"), "Monday's occurrence is an exception");
+        assertTrue(lines[1].contains("2024-09-04T08:00:00Z"));
+    }
+}
@@ -0,0 +1,125 @@
+// src/test/java/com/example/smartmeetingscheduler/ExecutorModeComparison.java
+package com.example.smartmeetingscheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load comparison of the pooled and virtual-thread executor modes. Not picked up by the default
+ * surefire includes; run it explicitly:
+ * {@code mvn test -Dtest=ExecutorModeComparison -Dcomparison.requests=2000 -Dcomparison.concurrency=400}
+ * Each run is published to the test report and appended, with the machine it ran on, to
+ * {@code target/executor-mode-comparison.md} as table rows for the README.
+ */
+@Slf4j
+class ExecutorModeComparison {
+
+    private static final Path RESULTS = Path.of("target", "executor-mode-comparison.md");
+
+    private static final String BODY = """
+            {"participantIds": ["user1", "user2", "user3"], "durationMinutes": 30,
+             "timeRange": {"start": "2024-09-01T00:00:00Z", "end": "2024-12-31T00:00:00Z"}}""";
+
+    @Test
+    void comparePoolAndVirtualThreads(TestReporter reporter) throws Exception {
+        int requests = Integer.getInteger("comparison.requests", 2000);
+        int concurrency = Integer.getInteger("comparison.concurrency", 400);
+
+        String machine = String.format("%d cores, %d MB max heap, Java %s, %s %s", Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().maxMemory() / (1024 * 1024), System.getProperty("java.version"),
+                System.getProperty("os.name"), System.getProperty("os.arch"));
+        for (String profile : List.of("pool", "virtual")) {
+            Result result = run(profile, requests, concurrency);
+            String row = String.format("| %s | %s | %d | %d | %.1f | %d | %d | %d | %s |", Instant.now(), profile, requests,
+                    concurrency, result.throughput(), result.p50Ms(), result.p99Ms(), result.failures(), machine);
+            log.info("{}: throughput={} req/s p50={} ms p99={} ms failures={}", profile,
+                    String.format("%.1f", result.throughput()), result.p50Ms(), result.p99Ms(), result.failures());
+            reporter.publishEntry(profile, row);
+            Files.createDirectories(RESULTS.getParent());
+            Files.writeString(RESULTS, row + System.lineSeparator(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+    private record Result(double throughput, long p50Ms, long p99Ms, int failures) {
+    }
+
+    private Result run(String profile, int requests, int concurrency) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SmartMeetingSchedulerApplication.class);
+        if (profile.equals("virtual")) {
+            builder.profiles("virtual");
+        }
+        // Arguments, not builder properties: those are defaults that application.properties overrides.
+        // Admission control would shed part of the load, and shed requests answer fast; measure the executors alone
+        ConfigurableApplicationContext context = builder.run("--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:compare-" + profile, "--scheduler.admission.enabled=false");
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newHttpClient();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/schedule"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                    .build();
+
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger failures = new AtomicInteger();
+            Map<String, Integer> failuresByStatus = new ConcurrentSkipListMap<>();
+            long started = System.nanoTime();
+            try (ExecutorService clients = Executors.newFixedThreadPool(concurrency)) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < requests; i++) {
+                    futures.add(clients.submit(() -> {
+                        long t0 = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            if (response.statusCode() >= 300) {
+                                failures.incrementAndGet();
+                                failuresByStatus.merge(String.valueOf(response.statusCode()), 1, Integer::sum);
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                            failuresByStatus.merge(e.getClass().getSimpleName(), 1, Integer::sum);
+                        }
+                        latencies.add(System.nanoTime() - t0);
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            double seconds = (System.nanoTime() - started) / 1e9;
+            if (!failuresByStatus.isEmpty()) {
+                log.info("{}: failures by status {}", profile, failuresByStatus);
+            }
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            long p50 = sorted.get((int) (sorted.size() * 0.50)) / 1_000_000;
+            long p99 = sorted.get(Math.min(sorted.size() - 1, (int) (sorted.size() * 0.99))) / 1_000_000;
+            return new Result(requests / seconds, p50, p99, failures.get());
+        } finally {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+// src/test/java/com/example/smartmeetingscheduler/FastStartProfileTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.dto.MeetingResponse;
+import com.example.smartmeetingscheduler.dto.RecurringEventDto;
+import com.example.smartmeetingscheduler.dto.ScheduleRequest;
+import com.example.smartmeetingscheduler.entities.User;
+import com.example.smartmeetingscheduler.repositories.UserRepository;
+import com.example.smartmeetingscheduler.scheduling.RecurrenceRule;
+import com.example.smartmeetingscheduler.services.EventService;
+import com.example.smartmeetingscheduler.services.RecurringEventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The fast profile builds its schema from the Flyway migrations only, so every entity has to fit them.
+// Hibernate validates the migrated schema against the entities here; startup fails on any drift.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:faststart",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true"
+})
+@ActiveProfiles("fast")
+class FastStartProfileTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private RecurringEventService recurringEventService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void testMigratedSchemaSupportsScheduling() throws Exception {
+        assertEquals(0, userRepository.count(), "Seeding is off in the fast profile");
+        userRepository.saveAll(List.of(new User("fast1", "Fast User 1"), new User("fast2", "Fast User 2")));
+
+        RecurringEventDto standup = new RecurringEventDto();
+        standup.setTitle("Standup");
+        standup.setFirstStart("2024-09-02T09:00:00Z");
+        standup.setDurationMinutes(30);
+        standup.setFrequency(RecurrenceRule.Frequency.DAILY);
+        standup.setExceptionDates(List.of("2024-09-04"));
+        assertNotNull(recurringEventService.createRecurringEvent("fast1", standup).get().getId());
+
+        ScheduleRequest request = new ScheduleRequest();
+        request.setParticipantIds(List.of("fast1", "fast2"));
+        request.setDurationMinutes(60);
+        ScheduleRequest.TimeRange timeRange = new ScheduleRequest.TimeRange();
+        timeRange.setStart("2024-09-03T09:00:00Z");
+        timeRange.setEnd("2024-09-03T17:00:00Z");
+        request.setTimeRange(timeRange);
+        MeetingResponse response = eventService.scheduleMeeting(request).get();
+
+        assertEquals("2024-09-03T09:30:00Z", response.getStartTime());
+        assertEquals(1, eventService.getUserCalendar("fast2", "2024-09-03T00:00:00Z", "2024-09-04T00:00:00Z").get().size());
+    }
+}
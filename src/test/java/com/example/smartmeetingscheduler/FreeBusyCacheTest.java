@@ -0,0 +1,132 @@
+// src/test/java/com/example/smartmeetingscheduler/FreeBusyCacheTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.scheduling.FreeBusyCache;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreeBusyCacheTest {
+
+    private static final long BUCKET = 1000;
+
+    @Test
+    void testAssembledWindowMatchesDirectFilter() {
+        FreeBusyCache cache = new FreeBusyCache(1000, BUCKET);
+        Random random = new Random(11);
+        for (int round = 0; round < 500; round++) {
+            int n = random.nextInt(30);
+            long[] starts = new long[n];
+            long[] ends = new long[n];
+            for (int i = 0; i < n; i++) {
+                starts[i] = random.nextInt(10_000);
+                ends[i] = starts[i] + random.nextInt(3000);
+            }
+            sortByStart(starts, ends);
+
+            long windowStart = random.nextInt(8000);
+            long windowEnd = windowStart + 1 + random.nextInt(3000);
+            long first = cache.bucketOf(windowStart);
+            long last = cache.bucketOf(windowEnd);
+
+            // Mirror the loader: only intervals reaching into the bucket span come back from the database
+            long spanStart = cache.bucketStart(first) - 1;
+            long spanEnd = cache.bucketStart(last + 1);
+            long[] loadedStarts = new long[n];
+            long[] loadedEnds = new long[n];
+            int loaded = 0;
+            for (int i = 0; i < n; i++) {
+                if (starts[i] < spanEnd && ends[i] > spanStart) {
+                    loadedStarts[loaded] = starts[i];
+                    loadedEnds[loaded] = ends[i];
+                    loaded++;
+                }
+            }
+            FreeBusyCache.Bucket[] window = cache.split(first, last, loadedStarts, loadedEnds, loaded);
+            IntervalIndex index = cache.assemble(window, first, windowStart, windowEnd, IntervalIndex.NONE, IntervalIndex.NONE);
+
+            int expected = 0;
+            for (int i = 0; i < n; i++) {
+                if (starts[i] < windowEnd && ends[i] > windowStart) {
+                    assertEquals(starts[i], index.startAt(expected), "Round " + round);
+                    assertEquals(ends[i], index.endAt(expected), "Round " + round);
+                    expected++;
+                }
+            }
+            assertEquals(expected, index.size(), "Round " + round);
+
+            long floorEnd = FreeBusyCache.floorEndIn(window[0], windowStart);
+            if (floorEnd != IntervalIndex.NONE) {
+                long best = Arrays.stream(ends).filter(e -> e <= windowStart).max().orElseThrow();
+                assertEquals(best, floorEnd, "Round " + round);
+            }
+            long ceilStart = FreeBusyCache.ceilStartIn(window[window.length - 1], windowEnd);
+            if (ceilStart != IntervalIndex.NONE) {
+                long best = Arrays.stream(starts).filter(s -> s >= windowEnd).min().orElseThrow();
+                assertEquals(best, ceilStart, "Round " + round);
+            }
+        }
+    }
+
+    @Test
+    void testWriteDuringLoadRejectsPut() {
+        FreeBusyCache cache = new FreeBusyCache(1000, BUCKET);
+        long generation = cache.generation("user1");
+        cache.beginWrite("user1", 100, 200);
+        cache.endWrite("user1", 100, 200);
+
+        cache.put("user1", generation, 0, cache.split(0, 0, new long[0], new long[0], 0));
+        assertNull(cache.get("user1", 0, 0), "A load that raced a write must not be cached");
+
+        cache.put("user1", cache.generation("user1"), 0, cache.split(0, 0, new long[0], new long[0], 0));
+        assertNotNull(cache.get("user1", 0, 0));
+    }
+
+    @Test
+    void testPendingWriteBypassesAndInvalidates() {
+        FreeBusyCache cache = new FreeBusyCache(1000, BUCKET);
+        cache.put("user1", cache.generation("user1"), 0, cache.split(0, 2, new long[0], new long[0], 0));
+        assertNotNull(cache.get("user1", 0, 2));
+
+        cache.beginWrite("user1", 1500, 1600);
+        assertNull(cache.get("user1", 0, 0), "Lookups bypass the cache while a write is pending");
+        cache.endWrite("user1", 1500, 1600);
+
+        assertNotNull(cache.get("user1", 0, 0), "Buckets outside the written range survive");
+        assertNull(cache.get("user1", 1, 1), "The written bucket is dropped");
+        assertEquals(1, cache.stats().invalidations());
+    }
+
+    @Test
+    void testLeastRecentlyUsedBucketIsEvicted() {
+        FreeBusyCache cache = new FreeBusyCache(2, BUCKET);
+        FreeBusyCache.Bucket[] empty = cache.split(0, 0, new long[0], new long[0], 0);
+        cache.put("a", 0, 0, empty);
+        cache.put("b", 0, 0, empty);
+        cache.get("a", 0, 0);
+        cache.put("c", 0, 0, empty);
+
+        assertNotNull(cache.get("a", 0, 0));
+        assertNull(cache.get("b", 0, 0));
+        assertEquals(1, cache.stats().evictions());
+        assertEquals(2, cache.stats().size());
+    }
+
+    private static void sortByStart(long[] starts, long[] ends) {
+        Integer[] order = new Integer[starts.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(starts[a], starts[b]));
+        long[] s = starts.clone();
+        long[] e = ends.clone();
+        for (int i = 0; i < order.length; i++) {
+            starts[i] = s[order[i]];
+            ends[i] = e[order[i]];
+        }
+    }
+}
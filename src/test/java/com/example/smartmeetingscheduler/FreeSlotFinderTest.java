@@ -0,0 +1,77 @@
+// src/test/java/com/example/smartmeetingscheduler/FreeSlotFinderTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.scheduling.FreeSlotFinder;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreeSlotFinderTest {
+
+    @Test
+    void testCandidatesSkipBusyIntervals() {
+        // Busy [60,120) for one user and [150,180) for another, window [0,300], 60-minute slots every 15
+        List<IntervalIndex> indexes = List.of(
+                IntervalIndex.of(new long[]{60}, new long[]{120}, IntervalIndex.NONE, IntervalIndex.NONE),
+                IntervalIndex.of(new long[]{150}, new long[]{180}, IntervalIndex.NONE, IntervalIndex.NONE));
+
+        long[] starts = FreeSlotFinder.candidateStarts(indexes, 0, 300, 60, 15);
+
+        assertArrayEquals(new long[]{0, 180, 195, 210, 225, 240}, starts);
+    }
+
+    @Test
+    void testZeroLengthIntervalSplitsGap() {
+        List<IntervalIndex> indexes = List.of(
+                IntervalIndex.of(new long[]{30}, new long[]{30}, IntervalIndex.NONE, IntervalIndex.NONE));
+
+        long[] starts = FreeSlotFinder.candidateStarts(indexes, 0, 90, 30, 15);
+
+        assertArrayEquals(new long[]{0, 30, 45, 60}, starts, "Slots strictly containing the instant are excluded");
+    }
+
+    @Test
+    void testMatchesPerSlotProbeOnRandomCalendars() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            long rangeStart = random.nextInt(50);
+            long rangeEnd = rangeStart + 100 + random.nextInt(2000);
+            long duration = 15 + random.nextInt(120);
+            List<IntervalIndex> indexes = new ArrayList<>();
+            for (int user = 0; user < 1 + random.nextInt(5); user++) {
+                int n = random.nextInt(12);
+                long[] s = new long[n];
+                long[] e = new long[n];
+                for (int i = 0; i < n; i++) {
+                    s[i] = random.nextInt(2200) - 100;
+                    e[i] = s[i] + random.nextInt(200);
+                }
+                indexes.add(IntervalIndex.of(s, e, IntervalIndex.NONE, IntervalIndex.NONE));
+            }
+
+            long[] expected = new long[0];
+            for (long start = rangeStart; start + duration <= rangeEnd; start += 15) {
+                boolean free = true;
+                for (IntervalIndex index : indexes) {
+                    if (index.overlaps(start, start + duration)) {
+                        free = false;
+                        break;
+                    }
+                }
+                if (free) {
+                    expected = Arrays.copyOf(expected, expected.length + 1);
+                    expected[expected.length - 1] = start;
+                }
+            }
+
+            assertArrayEquals(expected, FreeSlotFinder.candidateStarts(indexes, rangeStart, rangeEnd, duration, 15),
+                    "Round " + round);
+        }
+    }
+}
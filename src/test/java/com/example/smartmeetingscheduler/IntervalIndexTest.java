@@ -0,0 +1,66 @@
+// src/test/java/com/example/smartmeetingscheduler/IntervalIndexTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalIndexTest {
+
+    // Intervals in minutes for readability: [60,120), [90,100), [300,360)
+    private final IntervalIndex index = IntervalIndex.of(
+            new long[]{300, 60, 90},
+            new long[]{360, 120, 100},
+            10, 500);
+
+    @Test
+    void testOverlapsMatchesRepositoryPredicate() {
+        assertFalse(index.overlaps(0, 60), "Slot ending at an interval start is free");
+        assertTrue(index.overlaps(100, 130), "Slot inside the longer interval overlaps");
+        assertFalse(index.overlaps(120, 300), "Gap between intervals is free");
+        assertTrue(index.overlaps(299, 301), "Slot crossing an interval start overlaps");
+        assertFalse(index.overlaps(360, 400), "Slot starting at an interval end is free");
+    }
+
+    @Test
+    void testPreviousEndUsesLatestEndNotLatestStart() {
+        assertEquals(120, index.maxEndAtOrBefore(200), "Nested interval must not hide the outer end");
+        assertEquals(10, index.maxEndAtOrBefore(50), "Falls back to the boundary before the window");
+        assertEquals(360, index.maxEndAtOrBefore(360), "End equal to the time counts");
+    }
+
+    @Test
+    void testNextStart() {
+        assertEquals(60, index.minStartAtOrAfter(0));
+        assertEquals(300, index.minStartAtOrAfter(120));
+        assertEquals(500, index.minStartAtOrAfter(361), "Falls back to the boundary after the window");
+    }
+
+    @Test
+    void testWithAddsIntervalInOrder() {
+        IntervalIndex planned = index.with(130, 200);
+        assertEquals(4, planned.size());
+        assertEquals(130, planned.startAt(2));
+        assertTrue(planned.overlaps(150, 160), "Planned interval is busy");
+        assertFalse(index.overlaps(150, 160), "Original index is unchanged");
+        assertEquals(200, planned.maxEndAtOrBefore(250));
+        assertEquals(IntervalIndex.NONE, IntervalIndex.empty().with(0, 10).maxEndAtOrBefore(5));
+    }
+
+    @Test
+    void testWithoutRemovesOnlyTheExactInterval() {
+        IntervalIndex moved = index.with(60, 90).without(60, 90);
+        assertEquals(index.size(), moved.size());
+        assertTrue(moved.overlaps(70, 80), "The other interval starting at 60 stays");
+        assertSame(index, index.without(60, 61), "No exact match leaves the index as is");
+    }
+
+    @Test
+    void testEmptyIndex() {
+        IntervalIndex empty = IntervalIndex.empty();
+        assertFalse(empty.overlaps(0, 1000));
+        assertEquals(IntervalIndex.NONE, empty.maxEndAtOrBefore(500));
+        assertEquals(IntervalIndex.NONE, empty.minStartAtOrAfter(500));
+    }
+}
@@ -0,0 +1,207 @@
+// src/test/java/com/example/smartmeetingscheduler/PartitionedStoreTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.config.JdbcConcurrencyLimiter;
+import com.example.smartmeetingscheduler.dto.EventUpdateRequest;
+import com.example.smartmeetingscheduler.dto.EventUpdateResponse;
+import com.example.smartmeetingscheduler.dto.MeetingResponse;
+import com.example.smartmeetingscheduler.dto.ScheduleRequest;
+import com.example.smartmeetingscheduler.entities.Event;
+import com.example.smartmeetingscheduler.entities.Meeting;
+import com.example.smartmeetingscheduler.entities.User;
+import com.example.smartmeetingscheduler.repositories.EventRepository;
+import com.example.smartmeetingscheduler.repositories.MeetingRepository;
+import com.example.smartmeetingscheduler.repositories.RecurringEventRepository;
+import com.example.smartmeetingscheduler.repositories.UserRepository;
+import com.example.smartmeetingscheduler.services.EventService;
+import com.example.smartmeetingscheduler.services.PartitionRouter;
+import com.example.smartmeetingscheduler.services.RescheduleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two embedded databases, with one participant placed on each
+@SpringBootTest(properties = {
+        "scheduler.partitions.count=2",
+        "scheduler.partitions.url-template=jdbc:h2:mem:partitioned-test-%d;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("partitioned")
+class PartitionedStoreTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private RescheduleService rescheduleService;
+
+    @Autowired
+    private PartitionRouter partitionRouter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RecurringEventRepository recurringEventRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private String first;
+    private String second;
+
+    @BeforeEach
+    void setUp() {
+        partitionRouter.everywhere(partition -> {
+            eventRepository.deleteAll();
+            meetingRepository.deleteAll();
+            recurringEventRepository.deleteAll();
+            userRepository.deleteAll();
+            return null;
+        });
+        first = userOn(0);
+        second = userOn(1);
+    }
+
+    private String userOn(int partition) {
+        for (int i = 0; ; i++) {
+            String userId = "partitioned" + i;
+            if (partitionRouter.partitionOf(userId) == partition) {
+                partitionRouter.on(partition, () -> userRepository.save(new User(userId, "Partitioned User")));
+                return userId;
+            }
+        }
+    }
+
+    private MeetingResponse book(String start, String end) throws Exception {
+        ScheduleRequest request = new ScheduleRequest();
+        request.setParticipantIds(List.of(first, second));
+        request.setDurationMinutes(60);
+        ScheduleRequest.TimeRange timeRange = new ScheduleRequest.TimeRange();
+        timeRange.setStart(start);
+        timeRange.setEnd(end);
+        request.setTimeRange(timeRange);
+        return eventService.scheduleMeeting(request).get();
+    }
+
+    @Test
+    void testRoutingIsStableAndSpreadsUsers() {
+        int[] users = new int[2];
+        for (int i = 0; i < 1000; i++) {
+            int partition = partitionRouter.partitionOf("user" + i);
+            assertEquals(partition, partitionRouter.partitionOf("user" + i));
+            users[partition]++;
+        }
+        assertTrue(users[0] > 400 && users[1] > 400, "Roughly half the users on each partition");
+    }
+
+    @Test
+    void testPartitionCountMustMatchTheDataSource() {
+        assertDoesNotThrow(() -> routerOver(new JdbcConcurrencyLimiter(dataSource, 4, 1000), 2),
+                "The routing data source is found behind the JDBC limiter");
+        assertThrows(IllegalStateException.class, () -> routerOver(dataSource, 3));
+        assertThrows(IllegalStateException.class, () -> routerOver(new DriverManagerDataSource("jdbc:h2:mem:unpartitioned"), 2),
+                "Several partitions on one plain database");
+        assertDoesNotThrow(() -> routerOver(new DriverManagerDataSource("jdbc:h2:mem:unpartitioned"), 1));
+    }
+
+    private static void routerOver(DataSource dataSource, int count) {
+        PartitionRouter router = new PartitionRouter();
+        ReflectionTestUtils.setField(router, "count", count);
+        ReflectionTestUtils.setField(router, "dataSource", dataSource);
+        ReflectionTestUtils.invokeMethod(router, "checkDataSource");
+    }
+
+    @Test
+    void testBookingAcrossPartitionsWritesEachParticipantLocally() throws Exception {
+        partitionRouter.on(1, () -> eventRepository.save(new Event("Focus", Instant.parse("2024-09-02T09:00:00Z"),
+                Instant.parse("2024-09-02T10:00:00Z"), userRepository.findById(second).get())));
+
+        MeetingResponse meeting = book("2024-09-02T09:00:00Z", "2024-09-02T17:00:00Z");
+
+        assertEquals("2024-09-02T10:00:00Z", meeting.getStartTime(), "Busy time on the other partition is seen");
+        for (int partition = 0; partition < 2; partition++) {
+            String local = partition == 0 ? first : second;
+            List<Event> events = partitionRouter.on(partition, () -> eventRepository.findByMeetingId(meeting.getMeetingId()));
+            assertEquals(1, events.size(), "Only the local participant's event");
+            assertEquals(local, events.get(0).getUser().getId());
+            assertTrue(partitionRouter.on(partition, () -> meetingRepository.existsById(meeting.getMeetingId())),
+                    "Each partition keeps its own copy of the meeting");
+        }
+        assertEquals(2, eventService.getUserCalendar(second, "2024-09-02T00:00:00Z", "2024-09-03T00:00:00Z").get().size());
+    }
+
+    @Test
+    void testMovingEventReschedulesMeetingOnEveryPartition() throws Exception {
+        MeetingResponse meeting = book("2024-09-02T09:00:00Z", "2024-09-02T17:00:00Z");
+        assertEquals("2024-09-02T09:00:00Z", meeting.getStartTime());
+        Event dentist = partitionRouter.on(1, () -> eventRepository.save(new Event("Dentist",
+                Instant.parse("2024-09-02T15:00:00Z"), Instant.parse("2024-09-02T16:00:00Z"), userRepository.findById(second).get())));
+
+        EventUpdateRequest update = new EventUpdateRequest();
+        update.setStartTime("2024-09-02T09:00:00Z");
+        update.setEndTime("2024-09-02T10:00:00Z");
+        EventUpdateResponse response = rescheduleService.updateEvent(dentist.getId(), update).get();
+
+        assertEquals(1, response.getRescheduled().size());
+        assertEquals("2024-09-02T10:00:00Z", response.getRescheduled().get(0).getStartTime());
+        for (int partition = 0; partition < 2; partition++) {
+            Meeting copy = partitionRouter.on(partition, () -> meetingRepository.findById(meeting.getMeetingId())).get();
+            assertEquals(Instant.parse("2024-09-02T10:00:00Z"), copy.getStartTime());
+        }
+
+        // Ids come from per-partition ranges, so an event is found by id alone
+        List<Event> events = partitionRouter.everywhere(partition -> eventRepository.findByMeetingId(meeting.getMeetingId()))
+                .stream().flatMap(List::stream).toList();
+        assertEquals(3, new HashSet<>(List.of(events.get(0).getId(), events.get(1).getId(), dentist.getId())).size());
+        for (Event event : events) {
+            rescheduleService.cancelEvent(event.getId()).get();
+        }
+        assertEquals(List.of(false, false), partitionRouter.everywhere(partition -> meetingRepository.existsById(meeting.getMeetingId())));
+    }
+
+    @Test
+    void testAbortedWriteIsUndoneOnCommittedPartitions() {
+        User local = partitionRouter.on(0, () -> userRepository.findById(first).get());
+        Instant start = Instant.parse("2024-09-02T09:00:00Z");
+        Instant end = Instant.parse("2024-09-02T10:00:00Z");
+
+        boolean committed = partitionRouter.commitAcross(List.of(1, 0), partition -> {
+            if (partition == 1) {
+                return false;
+            }
+            eventRepository.save(new Event("Half booked", start, end, local));
+            return true;
+        }, partition -> eventRepository.deleteAll(
+                eventRepository.findByUserIdAndStartTimeGreaterThanEqualAndEndTimeLessThanEqual(first, start, end)));
+
+        assertFalse(committed);
+        assertEquals(0, partitionRouter.on(0, () -> eventRepository.countOverlappingForUsers(List.of(first), start, end)));
+
+        assertThrows(IllegalStateException.class, () -> partitionRouter.commitAcross(List.of(0, 1), partition -> {
+            if (partition == 1) {
+                throw new IllegalStateException("Partition unavailable");
+            }
+            eventRepository.save(new Event("Half booked", start, end, local));
+            return true;
+        }, partition -> eventRepository.deleteAll(
+                eventRepository.findByUserIdAndStartTimeGreaterThanEqualAndEndTimeLessThanEqual(first, start, end))));
+        assertEquals(0, partitionRouter.on(0, () -> eventRepository.countOverlappingForUsers(List.of(first), start, end)));
+    }
+}
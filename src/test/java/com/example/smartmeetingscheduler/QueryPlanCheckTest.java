@@ -0,0 +1,30 @@
+// src/test/java/com/example/smartmeetingscheduler/QueryPlanCheckTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.config.QueryPlanCheck;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Explains the SQL Hibernate generates for each scheduling query against the schema the entities create
+@SpringBootTest
+class QueryPlanCheckTest {
+
+    @Autowired
+    private QueryPlanCheck queryPlanCheck;
+
+    @Test
+    void testNoSchedulingQueryScansATable() {
+        Map<String, String> plans = queryPlanCheck.plans();
+
+        assertEquals(9, plans.size());
+        plans.forEach((name, plan) -> {
+            assertFalse(plan.startsWith("Could not explain"), name + ": " + plan);
+            assertFalse(plan.contains("tableScan"), name + " uses a full table scan:\n" + plan);
+        });
+    }
+}
@@ -0,0 +1,165 @@
+// src/test/java/com/example/smartmeetingscheduler/RecurrenceRuleTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long DAY = 1440 * MINUTE;
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    @Test
+    void testWeeklySeriesKeepsLocalTimeAcrossDst() {
+        // Mondays and Wednesdays at 09:30 Berlin time; Berlin leaves DST on 2024-10-27
+        long first = ZonedDateTime.of(2024, 10, 21, 9, 30, 0, 0, BERLIN).toInstant().toEpochMilli();
+        RecurrenceRule rule = new RecurrenceRule(first, 15 * MINUTE, BERLIN, RecurrenceRule.Frequency.WEEKLY, 1,
+                weekdays(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), IntervalIndex.NONE,
+                Set.of(LocalDate.of(2024, 10, 23)));
+
+        List<Long> starts = new ArrayList<>();
+        rule.expand(Instant.parse("2024-10-20T00:00:00Z").toEpochMilli(),
+                Instant.parse("2024-11-01T00:00:00Z").toEpochMilli(), (start, end) -> starts.add(start));
+
+        assertEquals(List.of(
+                Instant.parse("2024-10-21T07:30:00Z").toEpochMilli(),
+                Instant.parse("2024-10-28T08:30:00Z").toEpochMilli(),
+                Instant.parse("2024-10-30T08:30:00Z").toEpochMilli()), starts);
+    }
+
+    @Test
+    void testAddToMatchesMaterializedOccurrences() {
+        long first = Instant.parse("2024-09-02T10:00:00Z").toEpochMilli();
+        RecurrenceRule[] rules = {
+                new RecurrenceRule(first, 30 * MINUTE, ZoneOffset.UTC, RecurrenceRule.Frequency.DAILY, 3, 0,
+                        IntervalIndex.NONE, Set.of(LocalDate.of(2024, 9, 11), LocalDate.of(2024, 9, 14))),
+                new RecurrenceRule(first, 60 * MINUTE, BERLIN, RecurrenceRule.Frequency.WEEKLY, 2,
+                        weekdays(DayOfWeek.TUESDAY, DayOfWeek.FRIDAY), Instant.parse("2024-10-15T00:00:00Z").toEpochMilli(),
+                        Set.of(LocalDate.of(2024, 9, 13))),
+                // Occurrences longer than a day overlap the next one
+                new RecurrenceRule(first, 30 * 60 * MINUTE, ZoneOffset.UTC, RecurrenceRule.Frequency.DAILY, 1, 0,
+                        Instant.parse("2024-09-20T00:00:00Z").toEpochMilli(), Set.of()),
+        };
+        long horizonEnd = Instant.parse("2024-12-31T00:00:00Z").toEpochMilli();
+        for (RecurrenceRule rule : rules) {
+            long[][] all = materialize(rule, horizonEnd);
+            for (long windowStart = first - 3 * DAY; windowStart < first + 50 * DAY; windowStart += 7 * 60 * MINUTE) {
+                long windowEnd = windowStart + 2 * DAY;
+                IntervalIndex actual = RecurrenceRule.addTo(IntervalIndex.empty(), List.of(rule), windowStart, windowEnd);
+                IntervalIndex expected = index(all, windowStart, windowEnd);
+                for (long t = windowStart; t <= windowEnd; t += 15 * MINUTE) {
+                    String at = Instant.ofEpochMilli(windowStart) + " / " + Instant.ofEpochMilli(t);
+                    assertEquals(expected.overlaps(t, t + 45 * MINUTE), actual.overlaps(t, t + 45 * MINUTE), at);
+                    assertEquals(expected.maxEndAtOrBefore(t), actual.maxEndAtOrBefore(t), at);
+                    assertEquals(expected.minStartAtOrAfter(t), actual.minStartAtOrAfter(t), at);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSeriesMergesIntoExistingIndex() {
+        long first = Instant.parse("2024-09-02T09:00:00Z").toEpochMilli();
+        RecurrenceRule standup = new RecurrenceRule(first, 15 * MINUTE, ZoneOffset.UTC,
+                RecurrenceRule.Frequency.DAILY, 1, 0, IntervalIndex.NONE, Set.of());
+        long meetingStart = Instant.parse("2024-09-03T11:00:00Z").toEpochMilli();
+        IntervalIndex events = IntervalIndex.of(new long[]{meetingStart}, new long[]{meetingStart + 60 * MINUTE},
+                IntervalIndex.NONE, IntervalIndex.NONE);
+
+        IntervalIndex merged = RecurrenceRule.addTo(events, List.of(standup),
+                Instant.parse("2024-09-03T00:00:00Z").toEpochMilli(), Instant.parse("2024-09-04T00:00:00Z").toEpochMilli());
+
+        assertEquals(2, merged.size());
+        assertEquals(Instant.parse("2024-09-03T09:00:00Z").toEpochMilli(), merged.startAt(0));
+        assertEquals(meetingStart, merged.startAt(1));
+        assertEquals(Instant.parse("2024-09-02T09:15:00Z").toEpochMilli(),
+                merged.maxEndAtOrBefore(Instant.parse("2024-09-03T00:00:00Z").toEpochMilli()));
+        assertEquals(Instant.parse("2024-09-04T09:00:00Z").toEpochMilli(),
+                merged.minStartAtOrAfter(Instant.parse("2024-09-04T00:00:00Z").toEpochMilli()));
+        assertTrue(standup.overlaps(Instant.parse("2024-09-10T09:10:00Z").toEpochMilli(),
+                Instant.parse("2024-09-10T10:00:00Z").toEpochMilli()));
+        assertFalse(standup.overlaps(Instant.parse("2024-09-10T09:15:00Z").toEpochMilli(),
+                Instant.parse("2024-09-10T10:00:00Z").toEpochMilli()));
+    }
+
+    @Test
+    void testLazyStartsResumeMidSeriesWithoutExpandingTheRest() {
+        long first = Instant.parse("2020-01-01T08:00:00Z").toEpochMilli();
+        RecurrenceRule rule = new RecurrenceRule(first, 30 * MINUTE, ZoneOffset.UTC, RecurrenceRule.Frequency.DAILY, 1, 0,
+                IntervalIndex.NONE, Set.of(LocalDate.of(2024, 9, 3)));
+        long from = Instant.parse("2024-09-02T08:10:00Z").toEpochMilli();
+        long to = Instant.parse("2030-01-01T00:00:00Z").toEpochMilli();
+
+        // Five years of daily occurrences, but only the first few are ever computed
+        PrimitiveIterator.OfLong starts = rule.starts(from, to);
+        assertEquals(Instant.parse("2024-09-02T08:00:00Z").toEpochMilli(), starts.nextLong(), "Overlaps the start of the range");
+        assertEquals(Instant.parse("2024-09-04T08:00:00Z").toEpochMilli(), starts.nextLong(), "Skips the exception");
+        assertEquals(Instant.parse("2024-09-05T08:00:00Z").toEpochMilli(), starts.nextLong());
+
+        List<Long> expanded = new ArrayList<>();
+        rule.expand(from, Instant.parse("2024-09-06T00:00:00Z").toEpochMilli(), (start, end) -> expanded.add(start));
+        assertEquals(3, expanded.size(), "expand produces the same occurrences");
+    }
+
+    private static int weekdays(DayOfWeek... days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    // Every occurrence up to the horizon, expanded with a window that starts before the series
+    private static long[][] materialize(RecurrenceRule rule, long horizonEnd) {
+        List<long[]> occurrences = new ArrayList<>();
+        rule.expand(0, horizonEnd, (start, end) -> occurrences.add(new long[]{start, end}));
+        long[][] all = new long[2][occurrences.size()];
+        for (int i = 0; i < occurrences.size(); i++) {
+            all[0][i] = occurrences.get(i)[0];
+            all[1][i] = occurrences.get(i)[1];
+        }
+        return all;
+    }
+
+    // What the loader would build if the occurrences were stored as rows
+    private static IntervalIndex index(long[][] all, long windowStart, long windowEnd) {
+        List<long[]> inside = new ArrayList<>();
+        long floorEnd = IntervalIndex.NONE;
+        long ceilStart = IntervalIndex.NONE;
+        for (int i = 0; i < all[0].length; i++) {
+            long start = all[0][i];
+            long end = all[1][i];
+            if (start < windowEnd && end > windowStart) {
+                inside.add(new long[]{start, end});
+            }
+            if (end <= windowStart) {
+                floorEnd = Math.max(floorEnd, end);
+            }
+            if (start >= windowEnd && ceilStart == IntervalIndex.NONE) {
+                ceilStart = start;
+            }
+        }
+        long[] starts = new long[inside.size()];
+        long[] ends = new long[inside.size()];
+        for (int i = 0; i < inside.size(); i++) {
+            starts[i] = inside.get(i)[0];
+            ends[i] = inside.get(i)[1];
+        }
+        return IntervalIndex.of(starts, ends, floorEnd, ceilStart);
+    }
+}
@@ -0,0 +1,181 @@
+// src/test/java/com/example/smartmeetingscheduler/ScoringRulesTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.config.ScoringConfig;
+import com.example.smartmeetingscheduler.scheduling.CandidateScorer;
+import com.example.smartmeetingscheduler.scheduling.FreeSlotFinder;
+import com.example.smartmeetingscheduler.scheduling.GapTermCache;
+import com.example.smartmeetingscheduler.scheduling.IntervalIndex;
+import com.example.smartmeetingscheduler.scheduling.ScoringPolicies;
+import com.example.smartmeetingscheduler.scheduling.ScoringRules;
+import com.example.smartmeetingscheduler.scheduling.SlotScorer;
+import com.example.smartmeetingscheduler.scheduling.SlotScorerFactory;
+import com.example.smartmeetingscheduler.scheduling.TopKSlotSearch;
+import com.example.smartmeetingscheduler.scheduling.WorkingHoursMask;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringRulesTest {
+
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    void testDefaultPolicyMatchesHandCodedGapHeuristics() {
+        long rangeStart = Instant.parse("2024-09-02T00:00:00Z").toEpochMilli();
+        for (long gap = 0; gap < 3000; gap++) {
+            // One busy interval ending `gap` minutes before a slot that has nothing after it
+            IntervalIndex busy = IntervalIndex.of(new long[]{rangeStart - 60 * MINUTE}, new long[]{rangeStart},
+                    IntervalIndex.NONE, IntervalIndex.NONE);
+            CandidateScorer scorer = new CandidateScorer(new IntervalIndex[]{busy}, rangeStart, 30 * MINUTE,
+                    WorkingHoursMask.direct(new WorkingHoursMask.Profile[0], 30 * MINUTE), ScoringRules.DEFAULT);
+            assertEquals(100000 - gap + 500 + handCodedGapScore(gap), scorer.score(rangeStart + gap * MINUTE), "gap " + gap);
+        }
+    }
+
+    @Test
+    void testCustomPolicyChangesRankingAndKeepsPruningExact() {
+        Random random = new Random(3);
+        long rangeStart = Instant.parse("2024-09-02T00:00:00Z").toEpochMilli();
+        long rangeEnd = rangeStart + 14 * 1440 * MINUTE;
+        long duration = 30 * MINUTE;
+        IntervalIndex[] indexes = new IntervalIndex[4];
+        for (int u = 0; u < indexes.length; u++) {
+            long[] s = new long[60];
+            long[] e = new long[60];
+            for (int i = 0; i < s.length; i++) {
+                s[i] = rangeStart + random.nextInt(14 * 96) * 15 * MINUTE;
+                e[i] = s[i] + (1 + random.nextInt(8)) * 15 * MINUTE;
+            }
+            indexes[u] = IntervalIndex.of(s, e, IntervalIndex.NONE, IntervalIndex.NONE);
+        }
+        long[] candidates = FreeSlotFinder.candidateStarts(Arrays.asList(indexes), rangeStart, rangeEnd, duration, 15 * MINUTE);
+        // Earliness matters little, packing meetings together a lot
+        ScoringRules packed = ScoringRules.parse("packed", "earliness=0, working-hours=200, gap:0=400, gap:1-44=-300, gap:45+=10");
+        WorkingHoursMask workingHours = WorkingHoursMask.build(new WorkingHoursMask.Profile[]{WorkingHoursMask.Profile.DEFAULT},
+                rangeStart, rangeEnd, duration, 15 * MINUTE);
+        CandidateScorer scorer = new CandidateScorer(indexes, rangeStart, duration, workingHours, packed);
+
+        int[] scores = new int[candidates.length];
+        scorer.scoreAll(candidates, 0, candidates.length, scores);
+        for (int i = 0; i < candidates.length; i++) {
+            SlotScorer.Breakdown breakdown = scorer.explain(candidates[i]);
+            assertEquals(scores[i], breakdown.total());
+            assertEquals(100000, breakdown.earliness());
+            assertTrue(scorer.upperBound(candidates[i]) >= scores[i]);
+        }
+        Integer[] ranking = new Integer[candidates.length];
+        for (int i = 0; i < ranking.length; i++) {
+            ranking[i] = i;
+        }
+        Arrays.sort(ranking, (a, b) -> Integer.compare(scores[b], scores[a]));
+        int[] best = TopKSlotSearch.topK(scorer, candidates, 10).best();
+        for (int i = 0; i < best.length; i++) {
+            assertEquals((int) ranking[i], best[i], "rank " + i);
+        }
+        assertNotEquals(0, best[0], "The earliest slot no longer wins by default");
+    }
+
+    @Test
+    void testPoliciesByTenantAndMalformedRules() {
+        ScoringRules acme = ScoringRules.parse("acme", "earliness=2,gap:0=300");
+        ScoringPolicies policies = new ScoringPolicies(ScoringRules.DEFAULT, Map.of("acme", acme));
+        assertSame(acme, policies.forTenant("acme"));
+        assertSame(ScoringRules.DEFAULT, policies.forTenant("other"));
+        assertSame(ScoringRules.DEFAULT, policies.forTenant(null));
+
+        for (String spec : List.of("earliness", "earliness=-1", "speed=5", "gap:10-5=1", "gap:x=1", "gap:-3=1", "gap:20000+=1")) {
+            assertThrows(IllegalArgumentException.class, () -> ScoringRules.parse("bad", spec), spec);
+        }
+    }
+
+    @Test
+    void testTenantNamedDefaultIsRejectedAndDoesNotShareGapTerms() {
+        Map<String, SlotScorerFactory> factories = Map.of("rulesScorer", CandidateScorer.FACTORY);
+        for (String property : List.of("scheduler.scoring.tenants.default", "scheduler.scoring.scorers.default")) {
+            MockEnvironment environment = new MockEnvironment().withProperty(property,
+                    property.contains("tenants") ? "gap:0=300" : "rulesScorer");
+            assertThrows(IllegalStateException.class, () -> new ScoringConfig().scoringPolicies(environment, factories,
+                    ScoringRules.DEFAULT_SPEC, "rulesScorer"), property);
+        }
+
+        // Cached gap terms follow the compiled policy, not its configured name
+        GapTermCache cache = new GapTermCache(1000);
+        ScoringRules sameName = ScoringRules.parse("default", "gap:0=300");
+        cache.get(new GapTermCache.Key("u", 1, ScoringRules.DEFAULT, 0, 60 * MINUTE, 30 * MINUTE), () -> new int[]{100});
+        int[] terms = cache.get(new GapTermCache.Key("u", 1, sameName, 0, 60 * MINUTE, 30 * MINUTE), () -> new int[]{300});
+        assertArrayEquals(new int[]{300}, terms);
+    }
+
+    @Test
+    void testScorerFactoryIsChosenByTenant() {
+        long rangeStart = Instant.parse("2024-09-02T00:00:00Z").toEpochMilli();
+        long duration = 30 * MINUTE;
+        // Ignores calendars: only how early the slot is counts
+        SlotScorerFactory earliest = (participants, start, durationMs, workingHours, rules) -> new SlotScorer() {
+            @Override
+            public void scoreAll(long[] starts, int from, int to, int[] out) {
+                for (int i = from; i < to; i++) {
+                    out[i] = explain(starts[i]).total();
+                }
+            }
+
+            @Override
+            public int upperBound(long slotStart) {
+                return explain(slotStart).total();
+            }
+
+            @Override
+            public Breakdown explain(long slotStart) {
+                int earliness = rules.earliness((slotStart - start) / MINUTE);
+                return new Breakdown(earliness, earliness, 0, 0);
+            }
+        };
+        ScoringRules acme = ScoringRules.parse("acme", "earliness=2,gap:0=300");
+        ScoringPolicies policies = new ScoringPolicies(ScoringRules.DEFAULT, Map.of("acme", acme),
+                CandidateScorer.FACTORY, Map.of("acme", earliest));
+
+        IntervalIndex busy = IntervalIndex.of(new long[]{rangeStart + 60 * MINUTE}, new long[]{rangeStart + 90 * MINUTE},
+                IntervalIndex.NONE, IntervalIndex.NONE);
+        WorkingHoursMask workingHours = WorkingHoursMask.direct(new WorkingHoursMask.Profile[]{WorkingHoursMask.Profile.DEFAULT}, duration);
+        long slot = rangeStart + 30 * MINUTE;
+
+        ScoringPolicies.Policy policy = policies.policyFor("acme");
+        assertSame(acme, policy.rules());
+        assertFalse(policy.separable());
+        SlotScorer scorer = policy.scorer(new IntervalIndex[]{busy}, rangeStart, duration, workingHours);
+        assertEquals(0, scorer.explain(slot).gaps());
+        assertEquals(scorer.score(slot), scorer.explain(slot).total());
+
+        ScoringPolicies.Policy other = policies.policyFor("other");
+        assertSame(ScoringRules.DEFAULT, other.rules());
+        assertTrue(other.separable());
+        SlotScorer builtIn = other.scorer(new IntervalIndex[]{busy}, rangeStart, duration, workingHours);
+        assertTrue(builtIn instanceof CandidateScorer);
+        assertEquals(100, builtIn.explain(slot).gaps());
+        assertEquals(builtIn.score(slot), builtIn.explain(slot).total());
+    }
+
+    // The rules CandidateScorer had before they became configurable
+    private static int handCodedGapScore(long gapMin) {
+        int score = 0;
+        if (gapMin == 0) {
+            score += 100;
+        } else if (gapMin < 30) {
+            score -= 50;
+        } else if (gapMin >= 60) {
+            score += 50;
+        }
+        if (gapMin >= 15) {
+            score += 25;
+        }
+        return score;
+    }
+}
@@ -0,0 +1,66 @@
+// src/test/java/com/example/smartmeetingscheduler/WorkingHoursMaskTest.java
+package com.example.smartmeetingscheduler;
+
+import com.example.smartmeetingscheduler.scheduling.WorkingHoursMask;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkingHoursMaskTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private static final WorkingHoursMask.Profile NEW_YORK =
+            new WorkingHoursMask.Profile(ZoneId.of("America/New_York"), LocalTime.of(9, 0), LocalTime.of(17, 0));
+    private static final WorkingHoursMask.Profile BERLIN =
+            new WorkingHoursMask.Profile(ZoneId.of("Europe/Berlin"), LocalTime.of(8, 30), LocalTime.of(16, 30));
+    private static final WorkingHoursMask.Profile NIGHT_SHIFT =
+            new WorkingHoursMask.Profile(ZoneId.of("Asia/Kolkata"), LocalTime.of(22, 0), LocalTime.of(6, 0));
+
+    @Test
+    void testGridMaskMatchesDirectEvaluationAcrossDst() {
+        // New York leaves DST on 2024-11-03, Berlin on 2024-10-27
+        long rangeStart = Instant.parse("2024-10-20T00:00:00Z").toEpochMilli();
+        long rangeEnd = Instant.parse("2024-11-10T00:00:00Z").toEpochMilli();
+        WorkingHoursMask.Profile[][] groups = {
+                {NEW_YORK}, {BERLIN}, {NIGHT_SHIFT}, {NEW_YORK, BERLIN}, {BERLIN, NIGHT_SHIFT}
+        };
+        for (WorkingHoursMask.Profile[] profiles : groups) {
+            for (long duration : new long[]{15 * MINUTE, 45 * MINUTE, 120 * MINUTE}) {
+                WorkingHoursMask grid = WorkingHoursMask.build(profiles, rangeStart, rangeEnd, duration, 15 * MINUTE);
+                WorkingHoursMask direct = WorkingHoursMask.direct(profiles, duration);
+                for (long start = rangeStart; start <= rangeEnd; start += 15 * MINUTE) {
+                    assertEquals(direct.allWorking(start), grid.allWorking(start),
+                            profiles.length + " profiles, " + duration / MINUTE + " min at " + Instant.ofEpochMilli(start));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLocalHoursAndOverlap() {
+        WorkingHoursMask newYork = WorkingHoursMask.direct(new WorkingHoursMask.Profile[]{NEW_YORK}, 60 * MINUTE);
+        assertTrue(newYork.allWorking(Instant.parse("2024-07-01T13:00:00Z").toEpochMilli()), "09:00 EDT");
+        assertFalse(newYork.allWorking(Instant.parse("2024-12-02T13:00:00Z").toEpochMilli()), "08:00 EST");
+        assertTrue(newYork.allWorking(Instant.parse("2024-12-02T21:00:00Z").toEpochMilli()), "Ends exactly at 17:00 EST");
+
+        WorkingHoursMask both = WorkingHoursMask.direct(new WorkingHoursMask.Profile[]{NEW_YORK, BERLIN}, 30 * MINUTE);
+        assertTrue(both.allWorking(Instant.parse("2024-07-01T14:00:00Z").toEpochMilli()), "10:00 EDT, 16:00 CEST");
+        assertFalse(both.allWorking(Instant.parse("2024-07-01T14:30:00Z").toEpochMilli()), "Ends after 16:30 in Berlin");
+
+        WorkingHoursMask night = WorkingHoursMask.direct(new WorkingHoursMask.Profile[]{NIGHT_SHIFT}, 60 * MINUTE);
+        assertTrue(night.allWorking(Instant.parse("2024-07-01T18:30:00Z").toEpochMilli()), "00:00-01:00 IST");
+    }
+
+    @Test
+    void testDefaultProfileAcceptsSlotsNotEndingOnTheHour() {
+        WorkingHoursMask utc = WorkingHoursMask.direct(new WorkingHoursMask.Profile[]{WorkingHoursMask.Profile.DEFAULT}, 30 * MINUTE);
+        assertTrue(utc.allWorking(Instant.parse("2024-09-02T09:00:00Z").toEpochMilli()));
+        assertFalse(utc.allWorking(Instant.parse("2024-09-02T16:45:00Z").toEpochMilli()));
+        assertFalse(utc.allWorking(Instant.parse("2024-09-02T23:45:00Z").toEpochMilli()), "Crossing midnight is outside");
+    }
+}